@@ -0,0 +1,71 @@
+package net.codingarea.challenges.plugin.management.scheduler;
+
+import net.codingarea.challenges.plugin.management.scheduler.task.ScheduledTask;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares executing {@link ScheduledFunction scheduled functions} through their precompiled handle
+ * with {@link Method#invoke(Object, Object...)}, which was used for every execution before 2.2.3.
+ * The scores are the time per function, measured over {@link #FUNCTIONS} functions.
+ *
+ * @since 2.2.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduledFunctionBenchmark {
+
+	public static final int FUNCTIONS = 1000;
+
+	public static class Holder {
+
+		private int executions;
+
+		@ScheduledTask(ticks = 1)
+		public void execute() {
+			executions++;
+		}
+
+	}
+
+	private Holder[] holders;
+	private Method[] methods;
+	private ScheduledFunction[] functions;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		holders = new Holder[FUNCTIONS];
+		methods = new Method[FUNCTIONS];
+		functions = new ScheduledFunction[FUNCTIONS];
+
+		for (int i = 0; i < FUNCTIONS; i++) {
+			Method method = Holder.class.getMethod("execute");
+			holders[i] = new Holder();
+			methods[i] = method;
+			functions[i] = new ScheduledFunction(holders[i], method, new PoliciesContainer(method.getAnnotation(ScheduledTask.class)), false);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(FUNCTIONS)
+	public void reflection() throws Exception {
+		for (int i = 0; i < FUNCTIONS; i++) {
+			methods[i].invoke(holders[i]);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(FUNCTIONS)
+	public void handle() {
+		for (ScheduledFunction function : functions) {
+			function.invokeAnyway();
+		}
+	}
+
+}
@@ -0,0 +1,68 @@
+package net.codingarea.challenges.plugin.management.stats;
+
+import net.anweisen.utilities.bukkit.utils.logging.Logger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares incrementing {@link PlayerStats} with the {@link EnumMap} of boxed doubles used before 2.2.3.
+ * Run with {@code -prof gc} to compare the allocations per increment.
+ *
+ * @since 2.2.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerStatsBenchmark {
+
+	/**
+	 * The increment path of 2.2.2, including the debug call which is made on every increment even though debug messages are disabled
+	 */
+	private static final class EnumMapStats {
+
+		private final Map<Statistic, Double> values = new EnumMap<>(Statistic.class);
+		private final String name = "benchmark";
+
+		private void incrementStatistic(Statistic statistic, double amount) {
+			Logger.debug("Incrementing statistic {} by {} for {}", statistic, amount, name);
+			double value = values.getOrDefault(statistic, 0d);
+			values.put(statistic, value + amount);
+		}
+
+	}
+
+	private static final Statistic[] STATISTICS = Statistic.values();
+
+	private PlayerStats stats;
+	private EnumMapStats enumMapStats;
+	private int index;
+
+	@Setup
+	public void setup() {
+		stats = new PlayerStats(UUID.randomUUID(), "benchmark");
+		enumMapStats = new EnumMapStats();
+	}
+
+	@Benchmark
+	public void enumMap() {
+		enumMapStats.incrementStatistic(nextStatistic(), 0.5);
+	}
+
+	@Benchmark
+	public void adders() {
+		stats.incrementStatistic(nextStatistic(), 0.5);
+	}
+
+	private Statistic nextStatistic() {
+		if (++index == STATISTICS.length) index = 0;
+		return STATISTICS[index];
+	}
+
+}
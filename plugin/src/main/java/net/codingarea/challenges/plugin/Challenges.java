@@ -5,6 +5,7 @@ import net.anweisen.utilities.common.version.Version;
 import net.codingarea.challenges.plugin.challenges.custom.settings.CustomSettingsLoader;
 import net.codingarea.challenges.plugin.content.loader.*;
 import net.codingarea.challenges.plugin.management.blocks.BlockDropManager;
+import net.codingarea.challenges.plugin.management.blocks.BlockEditManager;
 import net.codingarea.challenges.plugin.management.bstats.MetricsLoader;
 import net.codingarea.challenges.plugin.management.challenges.ChallengeLoader;
 import net.codingarea.challenges.plugin.management.challenges.ChallengeManager;
@@ -36,6 +37,7 @@ public final class Challenges extends BukkitModule {
 	private ScoreboardManager scoreboardManager;
 	private ChallengeManager challengeManager;
 	private BlockDropManager blockDropManager;
+	private BlockEditManager blockEditManager;
 	private ChallengeLoader challengeLoader;
 	private CustomChallengesLoader customChallengesLoader;
 	private CustomSettingsLoader customSettingsLoader;
@@ -103,6 +105,7 @@ public final class Challenges extends BukkitModule {
 		titleManager = new TitleManager();
 		timer = new ChallengeTimer();
 		blockDropManager = new BlockDropManager();
+		blockEditManager = new BlockEditManager();
 		challengeManager = new ChallengeManager();
 		challengeLoader = new ChallengeLoader();
 		customChallengesLoader = new CustomChallengesLoader();
@@ -200,6 +203,7 @@ public final class Challenges extends BukkitModule {
 		if (loaderRegistry != null) loaderRegistry.disable();
 		if (databaseManager != null) databaseManager.disconnectIfConnected();
 		if (scoreboardManager != null) scoreboardManager.disable();
+		if (blockEditManager != null) blockEditManager.disable(!shutdownBecauseOfReset);
 
 		if (challengeManager != null) {
 			challengeManager.shutdownChallenges();
@@ -212,6 +216,7 @@ public final class Challenges extends BukkitModule {
 			if (!shutdownBecauseOfReset) {
 				challengeManager.saveGamestate(false);
 			}
+			challengeManager.getGamestateStorage().disable();
 			challengeManager.clearChallengeCache();
 		}
 	}
@@ -304,6 +309,11 @@ public final class Challenges extends BukkitModule {
 		return blockDropManager;
 	}
 
+	@Nonnull
+	public BlockEditManager getBlockEditManager() {
+		return blockEditManager;
+	}
+
 	@Nonnull
 	public TitleManager getTitleManager() {
 		return titleManager;
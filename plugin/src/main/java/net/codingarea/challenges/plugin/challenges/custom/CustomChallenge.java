@@ -5,6 +5,7 @@ import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.challenges.custom.settings.ChallengeExecutionData;
 import net.codingarea.challenges.plugin.challenges.custom.settings.action.ChallengeAction;
 import net.codingarea.challenges.plugin.challenges.custom.settings.trigger.ChallengeTrigger;
+import net.codingarea.challenges.plugin.challenges.custom.settings.trigger.SubTriggerMatcher;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.Setting;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
@@ -17,6 +18,7 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -33,6 +35,8 @@ public class CustomChallenge extends Setting {
 	private String name;
 	private ChallengeTrigger trigger;
 	private Map<String, String[]> subTriggers;
+	private String[] subTriggerKeys;
+	private SubTriggerMatcher[] subTriggerMatchers;
 	private ChallengeAction action;
 	private Map<String, String[]> subActions;
 
@@ -46,6 +50,7 @@ public class CustomChallenge extends Setting {
 		this.subTriggers = subTriggers;
 		this.action = action;
 		this.subActions = subActions;
+		compileSubTriggers();
 	}
 
 	@NotNull
@@ -111,6 +116,15 @@ public class CustomChallenge extends Setting {
 		document.set("subActions", subActions);
 	}
 
+	@Override
+	public void setEnabled(boolean enabled) {
+		boolean changed = this.enabled != enabled;
+		super.setEnabled(enabled);
+		if (changed && uuid != null) {
+			Challenges.getInstance().getCustomChallengesLoader().updateSubscribers();
+		}
+	}
+
 	@Nullable
 	@Override
 	protected String[] getSettingsDescription() {
@@ -120,7 +134,7 @@ public class CustomChallenge extends Setting {
 	public final void onTriggerFulfilled(ChallengeExecutionData challengeExecutionData) {
 		if (isEnabled()) {
 
-			boolean triggerMet = isTriggerMet(challengeExecutionData.getTriggerData());
+			boolean triggerMet = isTriggerMet(challengeExecutionData);
 			if (triggerMet) {
 				executeAction(challengeExecutionData);
 			}
@@ -130,33 +144,35 @@ public class CustomChallenge extends Setting {
 
 	/**
 	 * @return if the trigger is met.
-	 * That is when every key in the subTriggers is contained by the data map and one or more value
-	 * of the lists are equal to one another.
+	 * That is when every key in the subTriggers is contained by the data and the
+	 * data matches one or more of the selected values.
 	 */
-	public boolean isTriggerMet(Map<String, List<String>> data) {
-		if (!subTriggers.isEmpty()) {
-			for (Entry<String, String[]> entry : subTriggers.entrySet()) {
-				if (!data.containsKey(entry.getKey())) {
-					return false;
-				}
-				List<String> list = data.get(entry.getKey());
-
-				boolean match = false;
-				for (String value : entry.getValue()) {
-					if (list.contains(value)) {
-						match = true;
-						break;
-					}
-				}
-
-				if (!match) {
-					return false;
-				}
+	public boolean isTriggerMet(ChallengeExecutionData data) {
+		for (int i = 0; i < subTriggerKeys.length; i++) {
+			if (!data.matches(subTriggerKeys[i], subTriggerMatchers[i])) {
+				return false;
 			}
 		}
 		return true;
 	}
 
+	/**
+	 * Compiles the sub triggers into matchers, so the selected values don't have to be compared as strings on every event
+	 */
+	private void compileSubTriggers() {
+		Map<String, String[]> subTriggers = this.subTriggers == null ? Collections.emptyMap() : this.subTriggers;
+		String[] keys = new String[subTriggers.size()];
+		SubTriggerMatcher[] matchers = new SubTriggerMatcher[subTriggers.size()];
+		int index = 0;
+		for (Entry<String, String[]> entry : subTriggers.entrySet()) {
+			keys[index] = entry.getKey();
+			matchers[index] = new SubTriggerMatcher(entry.getKey(), entry.getValue());
+			index++;
+		}
+		this.subTriggerKeys = keys;
+		this.subTriggerMatchers = matchers;
+	}
+
 	public void executeAction(ChallengeExecutionData challengeExecutionData) {
 		if (!Bukkit.isPrimaryThread()) {
 			Bukkit.getScheduler().runTask(Challenges.getInstance(), () -> {
@@ -175,6 +191,7 @@ public class CustomChallenge extends Setting {
 		this.subTriggers = subTriggers;
 		this.action = action;
 		this.subActions = subActions;
+		compileSubTriggers();
 	}
 
 	public ChallengeAction getAction() {
@@ -4,6 +4,7 @@ import net.codingarea.challenges.plugin.ChallengeAPI;
 import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.challenges.custom.settings.action.impl.CancelEventAction;
 import net.codingarea.challenges.plugin.challenges.custom.settings.trigger.IChallengeTrigger;
+import net.codingarea.challenges.plugin.challenges.custom.settings.trigger.SubTriggerMatcher;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.AbstractChallenge;
 import net.codingarea.challenges.plugin.challenges.type.helper.SubSettingsHelper;
 import org.bukkit.Material;
@@ -12,7 +13,8 @@ import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * @author KxmischesDomi | https://github.com/kxmischesdomi
@@ -20,39 +22,126 @@ import java.util.*;
  */
 public class ChallengeExecutionData {
 
+	private static final byte NAMES = 0, VALUE = 1, VALUE_OTHER_THAN = 2, MULTIPLE_OF = 3;
+
 	private final IChallengeTrigger trigger;
-	private final Map<String, List<String>> triggerData;
+
+	/*
+	 * The trigger data is stored in small parallel arrays instead of a map of predicates,
+	 * so no map entries or capturing lambdas are created for every event.
+	 * A trigger passes at most a few keys, so they are looked up linearly.
+	 */
+	private String[] keys;
+	private byte[] kinds;
+	private Object[] objects;
+	private long[] numbers;
+	private int size;
+
 	private Entity entity;
 	private Runnable cancelAction;
+	private Cancellable event;
 	private int timesExecuting;
 
 	public ChallengeExecutionData(
 			IChallengeTrigger trigger) {
 		this.trigger = trigger;
-		this.triggerData = new HashMap<>();
 	}
 
 	public ChallengeExecutionData data(String key, String data) {
-		triggerData.put(key, Collections.singletonList(data));
-		return this;
+		return data(key, new String[] { data });
 	}
 
 	public ChallengeExecutionData data(String key, List<String> data) {
-		triggerData.put(key, data);
-		return this;
+		return data(key, data.toArray(new String[0]));
 	}
 
 	public ChallengeExecutionData data(String key, String... data) {
-		triggerData.put(key, Arrays.asList(data));
+		put(key, NAMES, data);
+		return this;
+	}
+
+	/**
+	 * Matches if {@link SubSettingsHelper#ANY} or the given value is selected
+	 */
+	public <E extends Enum<E>> ChallengeExecutionData value(String key, E value) {
+		put(key, VALUE, value);
+		return this;
+	}
+
+	/**
+	 * Matches if any value other than the given value is selected
+	 */
+	public <E extends Enum<E>> ChallengeExecutionData valueOtherThan(String key, E value) {
+		put(key, VALUE_OTHER_THAN, value);
+		return this;
+	}
+
+	/**
+	 * Matches if any selected number divides the given value
+	 */
+	public ChallengeExecutionData multipleOf(String key, long value) {
+		int index = put(key, MULTIPLE_OF, null);
+		if (numbers == null) numbers = new long[keys.length];
+		numbers[index] = value;
 		return this;
 	}
 
+	private int put(String key, byte kind, Object object) {
+		int index = indexOf(key);
+		if (index < 0) {
+			index = size++;
+			if (keys == null) {
+				keys = new String[2];
+				kinds = new byte[2];
+				objects = new Object[2];
+			} else if (index == keys.length) {
+				keys = Arrays.copyOf(keys, index * 2);
+				kinds = Arrays.copyOf(kinds, index * 2);
+				objects = Arrays.copyOf(objects, index * 2);
+				if (numbers != null) numbers = Arrays.copyOf(numbers, index * 2);
+			}
+			keys[index] = key;
+		}
+		kinds[index] = kind;
+		objects[index] = object;
+		return index;
+	}
+
+	private int indexOf(String key) {
+		for (int i = 0; i < size; i++) {
+			String current = keys[i];
+			if (current == key || current.equals(key)) return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return whether data was passed for the given key and it is matched by the given matcher
+	 */
+	public boolean matches(String key, SubTriggerMatcher matcher) {
+		int index = indexOf(key);
+		if (index < 0) return false;
+
+		switch (kinds[index]) {
+			case NAMES:
+				return matcher.containsAny((String[]) objects[index]);
+			case VALUE:
+				return matcher.contains((Enum<?>) objects[index]);
+			case VALUE_OTHER_THAN:
+				return matcher.containsOtherThan((Enum<?>) objects[index]);
+			case MULTIPLE_OF:
+				return matcher.containsDivisorOf(numbers[index]);
+			default:
+				return false;
+		}
+	}
+
 	public ChallengeExecutionData block(Material material) {
-		return data(SubSettingsHelper.BLOCK, SubSettingsHelper.ANY, material.name());
+		return value(SubSettingsHelper.BLOCK, material);
 	}
 
 	public ChallengeExecutionData entityType(EntityType type) {
-		return data(SubSettingsHelper.ENTITY_TYPE, SubSettingsHelper.ANY, type.name());
+		return value(SubSettingsHelper.ENTITY_TYPE, type);
 	}
 
 	public ChallengeExecutionData entity(Entity entity) {
@@ -66,7 +155,7 @@ public class ChallengeExecutionData {
 	}
 
 	public ChallengeExecutionData event(Cancellable event) {
-		this.cancelAction = () -> event.setCancelled(true);
+		this.event = event;
 		return this;
 	}
 
@@ -76,16 +165,19 @@ public class ChallengeExecutionData {
 	}
 
 	public void execute() {
+		if (!trigger.hasSubscribers()) return;
 		if (ChallengeAPI.isStarted() && !ChallengeAPI.isWorldInUse()) {
 			if (entity instanceof Player && AbstractChallenge.ignorePlayer(((Player) entity))) {
 				return;
 			}
-			if (cancelAction != null) {
+			boolean cancellable = cancelAction != null || event != null;
+			if (cancellable) {
 				CancelEventAction.onPreTrigger();
 			}
 			Challenges.getInstance().getCustomChallengesLoader().executeTrigger(this);
-			if (cancelAction != null && CancelEventAction.shouldCancel()) {
-				cancelAction.run();
+			if (cancellable && CancelEventAction.shouldCancel()) {
+				if (event != null) event.setCancelled(true);
+				else cancelAction.run();
 			}
 		}
 	}
@@ -94,10 +186,6 @@ public class ChallengeExecutionData {
 		return trigger;
 	}
 
-	public Map<String, List<String>> getTriggerData() {
-		return triggerData;
-	}
-
 	public Entity getEntity() {
 		return entity;
 	}
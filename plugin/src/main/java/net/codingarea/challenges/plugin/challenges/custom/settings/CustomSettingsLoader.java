@@ -9,10 +9,13 @@ import net.codingarea.challenges.plugin.challenges.custom.settings.trigger.Chall
 import net.codingarea.challenges.plugin.challenges.custom.settings.trigger.impl.*;
 import net.codingarea.challenges.plugin.management.challenges.annotations.RequireVersion;
 import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
 
 import javax.annotation.Nullable;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author KxmischesDomi | https://github.com/kxmischesdomi
@@ -22,6 +25,7 @@ public class CustomSettingsLoader {
 
 	private final Map<String, ChallengeTrigger> triggers;
 	private final Map<String, ChallengeAction> actions;
+	private final Set<ChallengeTrigger> listeningTriggers = new HashSet<>();
 
 	public CustomSettingsLoader() {
 		actions = new LinkedHashMap<>();
@@ -107,7 +111,26 @@ public class CustomSettingsLoader {
 				}
 			}
 			triggers.put(trigger1.getName(), trigger1);
-			Bukkit.getPluginManager().registerEvents(trigger1, Challenges.getInstance());
+		}
+		updateTriggerListeners();
+	}
+
+	/**
+	 * Registers the listeners of all triggers used by an enabled custom challenge and unregisters the others,
+	 * so events are not processed for triggers nobody uses.
+	 */
+	public void updateTriggerListeners() {
+		for (ChallengeTrigger trigger : triggers.values()) {
+			boolean listen = trigger.hasSubscribers();
+			if (listen == listeningTriggers.contains(trigger)) continue;
+
+			if (listen) {
+				listeningTriggers.add(trigger);
+				Bukkit.getPluginManager().registerEvents(trigger, Challenges.getInstance());
+			} else {
+				listeningTriggers.remove(trigger);
+				HandlerList.unregisterAll(trigger);
+			}
 		}
 	}
 
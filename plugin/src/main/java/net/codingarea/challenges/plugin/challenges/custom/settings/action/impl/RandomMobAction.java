@@ -3,15 +3,12 @@ package net.codingarea.challenges.plugin.challenges.custom.settings.action.impl;
 import net.codingarea.challenges.plugin.challenges.custom.settings.action.ChallengeAction;
 import net.codingarea.challenges.plugin.challenges.custom.settings.action.EntityTargetAction;
 import net.codingarea.challenges.plugin.challenges.type.helper.SubSettingsHelper;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import org.bukkit.Material;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * @author KxmischesDomi | https://github.com/kxmischesdomi
@@ -19,16 +16,8 @@ import java.util.stream.Collectors;
  */
 public class RandomMobAction extends EntityTargetAction {
 
-	private static final EntityType[] spannableMobs;
-	private static final EntityType[] livingMobs;
-
-	static {
-		List<EntityType> list = new LinkedList<>(Arrays.asList(EntityType.values()));
-		list = list.stream().filter(EntityType::isSpawnable).collect(Collectors.toList());
-		spannableMobs = list.toArray(new EntityType[0]);
-		list = list.stream().filter(EntityType::isAlive).collect(Collectors.toList());
-		livingMobs = list.toArray(new EntityType[0]);
-	}
+	private static final EntityType[] spannableMobs = Catalog.SPAWNABLE_ENTITIES.toArray();
+	private static final EntityType[] livingMobs = Catalog.SPAWNABLE_LIVING_ENTITIES.toArray();
 
 	public RandomMobAction(String name) {
 		super(name, SubSettingsHelper.createEntityTargetSettingsBuilder(false));
@@ -1,5 +1,6 @@
 package net.codingarea.challenges.plugin.challenges.custom.settings.trigger;
 
+import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.challenges.custom.settings.ChallengeExecutionData;
 import org.bukkit.event.Listener;
 
@@ -13,4 +14,11 @@ public interface IChallengeTrigger extends Listener {
 		return new ChallengeExecutionData(this);
 	}
 
+	/**
+	 * @return whether any enabled custom challenge uses this trigger
+	 */
+	default boolean hasSubscribers() {
+		return Challenges.getInstance().getCustomChallengesLoader().hasSubscribers(this);
+	}
+
 }
@@ -0,0 +1,134 @@
+package net.codingarea.challenges.plugin.challenges.custom.settings.trigger;
+
+import net.codingarea.challenges.plugin.challenges.type.helper.SubSettingsHelper;
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * The values selected for one sub trigger of a custom challenge, compiled once when the settings are applied.
+ * Enum values of the type registered for the sub trigger key are matched against an {@link EnumSet},
+ * numeric values are parsed once.
+ *
+ * @since 2.2.3
+ */
+public final class SubTriggerMatcher {
+
+	private static final Map<String, Class<? extends Enum<?>>> enumTypes = new HashMap<>();
+
+	static {
+		registerEnumType(SubSettingsHelper.BLOCK, Material.class);
+		registerEnumType(SubSettingsHelper.ITEM, Material.class);
+		registerEnumType(SubSettingsHelper.LIQUID, Material.class);
+		registerEnumType(SubSettingsHelper.ENTITY_TYPE, EntityType.class);
+		registerEnumType("damage_cause", DamageCause.class);
+	}
+
+	/**
+	 * Registers the enum type of the values selectable for the given sub trigger key,
+	 * so the values are compiled into an {@link EnumSet} when the settings are applied.
+	 * Values of keys without a registered type are matched by their names.
+	 */
+	public static void registerEnumType(@Nonnull String key, @Nonnull Class<? extends Enum<?>> type) {
+		enumTypes.put(key, type);
+	}
+
+	private final String[] values;
+	private final Set<String> names;
+	private final boolean any;
+	private final int[] numbers;
+	private final Class<?> enumType;
+	private final EnumSet<?> enumSet;
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public SubTriggerMatcher(@Nonnull String key, @Nonnull String[] values) {
+		this.values = values;
+		this.names = new HashSet<>(Arrays.asList(values));
+		this.any = names.contains(SubSettingsHelper.ANY);
+
+		int[] numbers = new int[values.length];
+		int count = 0;
+		for (String value : values) {
+			try {
+				int number = Integer.parseInt(value);
+				if (number > 0) numbers[count++] = number;
+			} catch (NumberFormatException ignored) {
+			}
+		}
+		this.numbers = Arrays.copyOf(numbers, count);
+
+		Class<? extends Enum<?>> type = enumTypes.get(key);
+		this.enumType = type;
+		this.enumSet = type == null ? null : compileEnumSet((Class) type, values);
+	}
+
+	@Nonnull
+	private static <E extends Enum<E>> EnumSet<E> compileEnumSet(@Nonnull Class<E> type, @Nonnull String[] values) {
+		EnumSet<E> set = EnumSet.noneOf(type);
+		for (String value : values) {
+			try {
+				set.add(Enum.valueOf(type, value));
+			} catch (IllegalArgumentException ignored) {
+				// Not a constant of this enum (e.g. "any" or removed in this version)
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * @return whether {@link SubSettingsHelper#ANY} or the given value is selected
+	 */
+	public boolean contains(@Nonnull Enum<?> value) {
+		if (any) return true;
+		EnumSet<?> set = getEnumSet(value);
+		return set != null ? set.contains(value) : names.contains(value.name());
+	}
+
+	/**
+	 * @return whether a value other than the given value is selected, {@link SubSettingsHelper#ANY} is ignored
+	 */
+	public boolean containsOtherThan(@Nonnull Enum<?> value) {
+		EnumSet<?> set = getEnumSet(value);
+		if (set != null) return set.size() > 1 || (set.size() == 1 && !set.contains(value));
+
+		for (String name : values) {
+			if (!name.equals(SubSettingsHelper.ANY) && !name.equals(value.name())) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return whether a selected number divides the given value
+	 */
+	public boolean containsDivisorOf(long value) {
+		for (int number : numbers) {
+			if (value % number == 0) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return whether any of the given names is selected
+	 */
+	public boolean containsAny(@Nonnull String[] names) {
+		for (String name : names) {
+			if (this.names.contains(name)) return true;
+		}
+		return false;
+	}
+
+	@Nullable
+	private EnumSet<?> getEnumSet(@Nonnull Enum<?> value) {
+		return value.getDeclaringClass() == enumType ? enumSet : null;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(values);
+	}
+
+}
@@ -4,6 +4,7 @@ import net.codingarea.challenges.plugin.challenges.custom.settings.sub.SubSettin
 import net.codingarea.challenges.plugin.challenges.custom.settings.trigger.ChallengeTrigger;
 import net.codingarea.challenges.plugin.challenges.type.helper.SubSettingsHelper;
 import net.codingarea.challenges.plugin.utils.bukkit.misc.BukkitStringUtils;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.DefaultItem;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Material;
@@ -19,10 +20,8 @@ public class ConsumeItemTrigger extends ChallengeTrigger {
 
 	public ConsumeItemTrigger(String name) {
 		super(name, SubSettingsBuilder.createChooseMultipleItem(SubSettingsHelper.ITEM).fill(builder -> {
-			for (Material material : Material.values()) {
-				if (material.isEdible()) {
-					builder.addSetting(material.name(), new ItemBuilder(material, DefaultItem.getItemPrefix() + BukkitStringUtils.getItemName(material).toPlainText()).build());
-				}
+			for (Material material : Catalog.EDIBLE_ITEMS.asList()) {
+				builder.addSetting(material.name(), new ItemBuilder(material, DefaultItem.getItemPrefix() + BukkitStringUtils.getItemName(material).toPlainText()).build());
 			}
 		}));
 	}
@@ -37,7 +36,7 @@ public class ConsumeItemTrigger extends ChallengeTrigger {
 		createData()
 				.entity(event.getPlayer())
 				.event(event)
-				.data(SubSettingsHelper.ITEM, SubSettingsHelper.ANY, event.getItem().getType().name())
+				.value(SubSettingsHelper.ITEM, event.getItem().getType())
 				.execute();
 	}
 
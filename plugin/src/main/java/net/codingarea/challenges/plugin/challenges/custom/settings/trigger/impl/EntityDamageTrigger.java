@@ -59,7 +59,7 @@ public class EntityDamageTrigger extends ChallengeTrigger {
 				.entity(event.getEntity())
 				.event(event)
 				.entityType(event.getEntityType())
-				.data("damage_cause", SubSettingsHelper.ANY, event.getCause().name())
+				.value("damage_cause", event.getCause())
 				.execute();
 	}
 
@@ -26,7 +26,7 @@ public class GetItemTrigger extends ChallengeTrigger {
 	public void onPickupItem(PlayerPickupItemEvent event) {
 		createData()
 				.entity(event.getPlayer())
-				.data("item", event.getItem().getItemStack().getType().name())
+				.value(SubSettingsHelper.ITEM, event.getItem().getItemStack().getType())
 				.execute();
 	}
 
@@ -37,7 +37,7 @@ public class GetItemTrigger extends ChallengeTrigger {
 		if (event.getCurrentItem() == null) return;
 		createData()
 				.entity(event.getPlayer())
-				.data("item", event.getCurrentItem().getType().name())
+				.value(SubSettingsHelper.ITEM, event.getCurrentItem().getType())
 				.execute();
 	}
 
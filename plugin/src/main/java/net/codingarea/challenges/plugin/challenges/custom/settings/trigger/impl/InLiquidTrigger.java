@@ -47,7 +47,7 @@ public class InLiquidTrigger extends ChallengeTrigger {
 				oldType != Material.LAVA) {
 			createData()
 					.entity(event.getPlayer())
-					.data(SubSettingsHelper.LIQUID, type.name())
+					.value(SubSettingsHelper.LIQUID, type)
 					.execute();
 		}
 
@@ -55,13 +55,14 @@ public class InLiquidTrigger extends ChallengeTrigger {
 
 	@ScheduledTask(ticks = 5, async = false)
 	public void onFifthTick() {
+		if (!hasSubscribers()) return;
 		for (Player player : Bukkit.getOnlinePlayers()) {
 			Material type = player.getLocation().getBlock().getType();
 			if (type == Material.WATER ||
 					type == Material.LAVA) {
 				createData()
 						.entity(player)
-						.data("liquid", type.name())
+						.value(SubSettingsHelper.LIQUID, type)
 						.execute();
 			}
 		}
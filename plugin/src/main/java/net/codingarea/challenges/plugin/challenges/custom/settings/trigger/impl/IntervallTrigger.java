@@ -9,9 +9,6 @@ import net.codingarea.challenges.plugin.management.scheduler.task.ScheduledTask;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Material;
 
-import java.util.LinkedList;
-import java.util.List;
-
 /**
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.1.0
@@ -44,45 +41,12 @@ public class IntervallTrigger extends ChallengeTrigger {
 
 	@ScheduledTask(ticks = 20, playerPolicy = PlayerCountPolicy.ALWAYS)
 	public void onSecond() {
-		long currentTime = Challenges.getInstance().getChallengeTimer().getTime();
-
-		List<String> list = new LinkedList<>();
-		list.add("1");
+		if (!hasSubscribers()) return;
 
-
-		if (currentTime % 2 == 0) {
-			list.add("2");
-		}
-		if (currentTime % 5 == 0) {
-			list.add("5");
-		}
-		if (currentTime % 10 == 0) {
-			list.add("10");
-		}
-		if (currentTime % 20 == 0) {
-			list.add("20");
-		}
-		if (currentTime % 30 == 0) {
-			list.add("30");
-		}
-		if (currentTime % 60 == 0) {
-			list.add("60");
-		}
-		if (currentTime % 120 == 0) {
-			list.add("120");
-		}
-		if (currentTime % 180 == 0) {
-			list.add("180");
-		}
-		if (currentTime % 180 == 0) {
-			list.add("180");
-		}
-		if (currentTime % 300 == 0) {
-			list.add("300");
-		}
+		long currentTime = Challenges.getInstance().getChallengeTimer().getTime();
 
 		createData()
-				.data("time", list)
+				.multipleOf("time", currentTime)
 				.execute();
 	}
 
@@ -9,10 +9,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerMoveEvent;
 
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
-
 /**
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.1.0
@@ -35,21 +31,10 @@ public class StandsNotOnSpecificBlockTrigger extends ChallengeTrigger {
 		Block blockBelow = BlockUtils.getBlockBelow(event.getTo());
 		if (blockBelow == null) return;
 
-		Material type = blockBelow.getType();
-
-		List<Material> materials = new LinkedList<>(Arrays.asList(Material.values()));
-		materials.remove(type);
-		materials.removeIf(material -> !material.isBlock() || !material.isItem());
-
-		List<String> names = new LinkedList<>();
-		for (Material material : materials) {
-			names.add(material.name());
-		}
-
 		createData()
 				.entity(event.getPlayer())
 				.event(event)
-				.data("block", names)
+				.valueOtherThan(SubSettingsHelper.BLOCK, blockBelow.getType())
 				.execute();
 	}
 
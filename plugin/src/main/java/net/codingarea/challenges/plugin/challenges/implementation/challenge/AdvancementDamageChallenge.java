@@ -3,6 +3,7 @@ package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.SettingModifier;
 import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeHelper;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
@@ -18,6 +19,7 @@ import javax.annotation.Nullable;
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 1.0
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 public class AdvancementDamageChallenge extends SettingModifier {
 
 	public AdvancementDamageChallenge() {
@@ -8,6 +8,7 @@ import net.codingarea.challenges.plugin.challenges.type.abstraction.MenuSetting;
 import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeConfigHelper;
 import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeHelper;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
@@ -32,6 +33,7 @@ import java.util.*;
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.0
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.0")
 public class AllBlocksDisappearChallenge extends MenuSetting {
 
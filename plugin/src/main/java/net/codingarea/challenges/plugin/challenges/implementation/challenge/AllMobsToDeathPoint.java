@@ -3,6 +3,7 @@ package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 import net.anweisen.utilities.common.annotations.Since;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.Setting;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.spigot.events.EntityDeathByPlayerEvent;
@@ -19,6 +20,7 @@ import java.util.Collection;
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.0
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.0")
 public class AllMobsToDeathPoint extends Setting {
 
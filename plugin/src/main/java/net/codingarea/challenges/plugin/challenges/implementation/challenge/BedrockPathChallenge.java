@@ -2,6 +2,7 @@ package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 
 import net.codingarea.challenges.plugin.challenges.type.abstraction.Setting;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
@@ -20,6 +21,7 @@ import javax.annotation.Nonnull;
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 1.0
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 public class BedrockPathChallenge extends Setting {
 
 	public BedrockPathChallenge() {
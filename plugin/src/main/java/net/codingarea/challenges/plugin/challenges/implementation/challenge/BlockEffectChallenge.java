@@ -6,6 +6,7 @@ import net.anweisen.utilities.common.collection.SeededRandomWrapper;
 import net.codingarea.challenges.plugin.ChallengeAPI;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.Setting;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.management.scheduler.task.ScheduledTask;
@@ -36,6 +37,7 @@ import java.util.UUID;
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.1.2
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.1.2")
 public class BlockEffectChallenge extends Setting {
 
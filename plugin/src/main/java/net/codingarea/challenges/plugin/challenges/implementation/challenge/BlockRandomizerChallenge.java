@@ -1,19 +1,17 @@
 package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 
-import net.anweisen.utilities.bukkit.utils.item.ItemUtils;
-import net.anweisen.utilities.bukkit.utils.misc.BukkitReflectionUtils;
 import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.RandomizerSetting;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.management.blocks.BlockDropManager;
 import net.codingarea.challenges.plugin.management.blocks.BlockDropManager.DropPriority;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Material;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -36,12 +34,10 @@ public class BlockRandomizerChallenge extends RandomizerSetting {
 	protected void reloadRandomization() {
 		BlockDropManager manager = Challenges.getInstance().getBlockDropManager();
 
-		List<Material> blocks = new ArrayList<>(Arrays.asList(Material.values()));
-		blocks.removeIf(material -> !ItemUtils.isObtainableInSurvival(material) || !material.isBlock() || BukkitReflectionUtils.isAir(material));
+		List<Material> blocks = Catalog.PLACEABLE_BLOCKS.toList();
 		random.shuffle(blocks);
 
-		List<Material> drops = new ArrayList<>(Arrays.asList(Material.values()));
-		drops.removeIf(material -> !material.isItem() || !ItemUtils.isObtainableInSurvival(material));
+		List<Material> drops = Catalog.OBTAINABLE_ITEMS.toList();
 		random.shuffle(drops);
 
 		while (!blocks.isEmpty()) {
@@ -1,14 +1,24 @@
 package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 
 import net.anweisen.utilities.common.annotations.Since;
+import net.anweisen.utilities.common.config.Document;
+import net.anweisen.utilities.common.config.document.GsonDocument;
+import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.SettingModifier;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.blocks.BlockEditManager;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
+import net.codingarea.challenges.plugin.management.challenges.entities.SegmentedGamestateSaveable;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
+import net.codingarea.challenges.plugin.utils.misc.LongIntHashMap;
+import net.codingarea.challenges.plugin.utils.misc.VarIntUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.BlockBreakEvent;
@@ -17,17 +27,77 @@ import org.bukkit.scheduler.BukkitTask;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 /**
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.0
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.0")
-public class BlocksDisappearAfterTimeChallenge extends SettingModifier {
+public class BlocksDisappearAfterTimeChallenge extends SettingModifier implements SegmentedGamestateSaveable {
 
-	private final Map<Block, BukkitTask> tasks = new HashMap<>();
+	/**
+	 * Must be larger than the maximum delay in ticks, so every entry is only visited once
+	 */
+	private static final int WHEEL_SIZE = 8192;
+
+	/**
+	 * The blocks of one world waiting to disappear.
+	 * Positions are {@link #getPositionKey(int, int, int) packed into longs} and sorted into a timing wheel by the tick they disappear at.
+	 * Removed or replaced blocks are not removed from the wheel, but skipped when their tick doesn't match the one in {@link #deadlines}.
+	 */
+	private static final class DisappearingBlocks {
+
+		private final LongIntHashMap deadlines = new LongIntHashMap();
+		private final long[][] wheel = new long[WHEEL_SIZE][];
+		private final int[] wheelSizes = new int[WHEEL_SIZE];
+
+		private void add(long position, int deadline) {
+			deadlines.put(position, deadline);
+			int slot = deadline & (WHEEL_SIZE - 1);
+			long[] bucket = wheel[slot];
+			if (bucket == null) bucket = wheel[slot] = new long[8];
+			else if (wheelSizes[slot] == bucket.length) bucket = wheel[slot] = Arrays.copyOf(bucket, bucket.length * 2);
+			bucket[wheelSizes[slot]++] = position;
+		}
+
+		private void remove(long position) {
+			deadlines.remove(position);
+		}
+
+		private void expire(int tick, @Nonnull LongConsumer action) {
+			int slot = tick & (WHEEL_SIZE - 1);
+			long[] bucket = wheel[slot];
+			int size = wheelSizes[slot];
+			if (bucket == null || size == 0) return;
+
+			wheel[slot] = null;
+			wheelSizes[slot] = 0;
+			for (int i = 0; i < size; i++) {
+				long position = bucket[i];
+				if (deadlines.get(position, tick - 1) != tick) continue;
+				deadlines.remove(position);
+				action.accept(position);
+			}
+		}
+
+		private boolean isEmpty() {
+			return deadlines.isEmpty();
+		}
+
+	}
+
+	private final Map<String, DisappearingBlocks> blocks = new HashMap<>();
+	private BukkitTask task;
+	private int currentTick;
+
+	private volatile boolean dirty = true;
 
 	public BlocksDisappearAfterTimeChallenge() {
 		super(MenuType.CHALLENGES, 60, 300);
@@ -51,10 +121,8 @@ public class BlocksDisappearAfterTimeChallenge extends SettingModifier {
 		if (!shouldExecuteEffect()) return;
 		if (ignorePlayer(event.getPlayer())) return;
 
-		BukkitTask oldTask = tasks.remove(event.getBlock());
-		if (oldTask != null) oldTask.cancel();
-		tasks.put(event.getBlock(), runTask(event.getBlock()));
-
+		Block block = event.getBlock();
+		schedule(block.getWorld().getName(), getPositionKey(block.getX(), block.getY(), block.getZ()), getValue() * 20);
 	}
 
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -62,12 +130,153 @@ public class BlocksDisappearAfterTimeChallenge extends SettingModifier {
 		if (!shouldExecuteEffect()) return;
 		if (ignorePlayer(event.getPlayer())) return;
 
-		BukkitTask oldTask = tasks.remove(event.getBlock());
-		if (oldTask != null) oldTask.cancel();
+		Block block = event.getBlock();
+		DisappearingBlocks worldBlocks = blocks.get(block.getWorld().getName());
+		long position = getPositionKey(block.getX(), block.getY(), block.getZ());
+		if (worldBlocks == null || !worldBlocks.deadlines.containsKey(position)) return;
+		worldBlocks.remove(position);
+		dirty = true;
+	}
+
+	private void schedule(@Nonnull String world, long position, int delay) {
+		blocks.computeIfAbsent(world, key -> new DisappearingBlocks()).add(position, currentTick + Math.max(1, Math.min(delay, WHEEL_SIZE - 1)));
+		if (task == null) task = Bukkit.getScheduler().runTaskTimer(plugin, this::handleTick, 1, 1);
+		dirty = true;
+	}
+
+	/**
+	 * Removes the blocks whose time ran out, the removals are applied within the budget of the {@link BlockEditManager}
+	 */
+	private void handleTick() {
+		currentTick++;
+		dirty = true;
+		BlockEditManager edits = Challenges.getInstance().getBlockEditManager();
+		BlockData air = Material.AIR.createBlockData();
+
+		Iterator<Entry<String, DisappearingBlocks>> iterator = blocks.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Entry<String, DisappearingBlocks> entry = iterator.next();
+			World world = Bukkit.getWorld(entry.getKey());
+			entry.getValue().expire(currentTick, position -> {
+				if (world == null) return;
+				edits.setBlockData(world, getX(position), getY(position), getZ(position), air, true);
+			});
+			if (entry.getValue().isEmpty()) iterator.remove();
+		}
+
+		if (blocks.isEmpty()) {
+			task.cancel();
+			task = null;
+		}
+	}
+
+	@Override
+	public void writeGameState(@Nonnull Document document) {
+		captureGameState().accept(document);
+	}
+
+	/**
+	 * The remaining ticks change every tick, so the gamestate is dirty as long as blocks are waiting to disappear
+	 */
+	@Override
+	public boolean isGamestateDirty() {
+		return dirty;
+	}
+
+	@Override
+	public void markGamestateDirty() {
+		dirty = true;
+	}
+
+	@Nonnull
+	@Override
+	public Consumer<Document> captureGameState() {
+		dirty = false;
+
+		Map<String, long[]> positions = new HashMap<>();
+		Map<String, int[]> remaining = new HashMap<>();
+		blocks.forEach((world, worldBlocks) -> {
+			long[] worldPositions = new long[worldBlocks.deadlines.size()];
+			int[] worldRemaining = new int[worldPositions.length];
+			int[] count = {0};
+			worldBlocks.deadlines.forEach((position, deadline) -> {
+				worldPositions[count[0]] = position;
+				worldRemaining[count[0]++] = deadline - currentTick;
+			});
+			positions.put(world, worldPositions);
+			remaining.put(world, worldRemaining);
+		});
+
+		return document -> {
+			GsonDocument pending = new GsonDocument();
+			positions.forEach((world, worldPositions) -> pending.set(world, write(worldPositions, remaining.get(world))));
+			document.set("blocks", pending);
+		};
+	}
+
+	/**
+	 * Writes the blocks as base64 encoded pairs of varint position deltas, ordered by position, and remaining ticks
+	 */
+	@Nonnull
+	private static String write(@Nonnull long[] positions, @Nonnull int[] remaining) {
+		Integer[] order = new Integer[positions.length];
+		for (int i = 0; i < order.length; i++) order[i] = i;
+		Arrays.sort(order, Comparator.comparingLong(i -> positions[i]));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		long previous = 0;
+		for (int i : order) {
+			VarIntUtils.writeVarLong(output, positions[i] - previous);
+			VarIntUtils.writeVarInt(output, remaining[i]);
+			previous = positions[i];
+		}
+		return Base64.getEncoder().encodeToString(output.toByteArray());
+	}
+
+	@Override
+	public void loadGameState(@Nonnull Document document) {
+		blocks.clear();
+		dirty = true;
+
+		Document packed = document.getDocument("blocks");
+		if (packed != null) load(packed);
+
+		// Blocks stored as one document per block, the format used before 2.2.3
+		Document pending = document.getDocument("pending");
+		if (pending == null) return;
+		for (String world : pending.keys()) {
+			for (Document blockDocument : pending.getDocumentList(world)) {
+				long position = getPositionKey(blockDocument.getInt("x"), blockDocument.getInt("y"), blockDocument.getInt("z"));
+				schedule(world, position, blockDocument.getInt("ticks"));
+			}
+		}
+	}
+
+	private void load(@Nonnull Document packed) {
+		for (String world : packed.keys()) {
+			ByteArrayInputStream input = new ByteArrayInputStream(Base64.getDecoder().decode(packed.getString(world, "")));
+			long position = 0;
+			while (input.available() > 0) {
+				position += VarIntUtils.readVarLong(input);
+				schedule(world, position, VarIntUtils.readVarInt(input));
+			}
+		}
+	}
+
+	private static long getPositionKey(int x, int y, int z) {
+		return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFFL);
+	}
+
+	private static int getX(long position) {
+		return (int) (position >> 38);
+	}
+
+	private static int getY(long position) {
+		return (int) (position << 52 >> 52);
 	}
 
-	private BukkitTask runTask(@Nonnull Block block) {
-		return Bukkit.getScheduler().runTaskLater(plugin, () -> block.setType(Material.AIR), getValue() * 20L);
+	private static int getZ(long position) {
+		return (int) (position << 26 >> 38);
 	}
 
-}
\ No newline at end of file
+}
@@ -7,10 +7,10 @@ import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeHelper;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.ChunkScanner;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.ListBuilder;
 import org.bukkit.*;
-import org.bukkit.block.Block;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -53,49 +53,41 @@ public class ChunkDeconstructionChallenge extends TimedChallenge {
 	protected void onTimeActivation() {
 		if (ChallengeAPI.isWorldInUse()) return;
 
-		for (Chunk chunk : getChunksToDeconstruct()) {
-			if (!chunk.isLoaded()) continue;
-			deconstructChunk(chunk);
-		}
+		List<Chunk> chunks = getChunksToDeconstruct();
+		Bukkit.getScheduler().runTask(plugin, () -> {
+			for (Chunk chunk : chunks) {
+				if (!chunk.isLoaded()) continue;
+				deconstructChunk(chunk);
+			}
+		});
 
 		restartTimer();
 	}
 
 	private void deconstructChunk(@Nonnull Chunk chunk) {
-
-		for (int x = 0; x < 16; x++) {
-			int finalX = x;
-			Bukkit.getScheduler().runTask(plugin, () -> {
+		ChunkScanner.scan(chunk, (snapshot, positions) -> {
+			for (int x = 0; x < 16; x++) {
 				for (int z = 0; z < 16; z++) {
-					deconstructAtLocation(chunk.getBlock(finalX, 0, z));
+					int y = getHighestBreakableBlock(snapshot, x, z, positions.getMinHeight(), positions.getMaxHeight());
+					if (y != Integer.MIN_VALUE) positions.add(x, y, z);
 				}
-			});
-		}
-
-	}
-
-	private void deconstructAtLocation(@Nonnull Block block) {
-		Block lowestBreakableBlock = getLowestBreakableBlock(block);
-		if (lowestBreakableBlock == null) return;
-
-		lowestBreakableBlock.setType(Material.AIR, true);
+			}
+		}, positions -> positions.apply(Material.AIR.createBlockData(), true));
 	}
 
-	@Nullable
-	private Block getLowestBreakableBlock(@Nonnull Block block) {
-		Location location = block.getLocation();
-		location.setY(block.getWorld().getMaxHeight());
-
-		while (location.getY() >= BukkitReflectionUtils.getMinHeight(block.getWorld()) && !isBreakable(location.getBlock())) {
-			location.subtract(0, 1, 0);
+	/**
+	 * @return the y coordinate of the highest breakable block in the column or {@link Integer#MIN_VALUE} if there is none
+	 */
+	private int getHighestBreakableBlock(@Nonnull ChunkSnapshot snapshot, int x, int z, int minHeight, int maxHeight) {
+		for (int y = maxHeight - 1; y >= minHeight; y--) {
+			Material type = snapshot.getBlockType(x, y, z);
+			if (type != Material.BEDROCK && !BukkitReflectionUtils.isAir(type) && !isLiquid(type)) return y;
 		}
-
-		Block currentBlock = location.getBlock();
-		return currentBlock.getType() == Material.BEDROCK || currentBlock.isLiquid() ? null : location.getBlock();
+		return Integer.MIN_VALUE;
 	}
 
-	private boolean isBreakable(@Nonnull Block block) {
-		return block.getType() != Material.BEDROCK && !BukkitReflectionUtils.isAir(block.getType()) && !block.isLiquid();
+	private boolean isLiquid(@Nonnull Material type) {
+		return type == Material.WATER || type == Material.LAVA;
 	}
 
 	private List<Chunk> getChunksToDeconstruct() {
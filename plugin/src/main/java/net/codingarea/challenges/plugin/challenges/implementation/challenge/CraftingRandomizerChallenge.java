@@ -1,9 +1,10 @@
 package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 
-import net.anweisen.utilities.bukkit.utils.item.ItemUtils;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.RandomizerSetting;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Material;
 import org.bukkit.event.EventHandler;
@@ -18,6 +19,7 @@ import java.util.*;
  * @author anweisen | https://github.com/anweisen
  * @since 2.0
  */
+@ListenOnlyWhenEnabled
 public class CraftingRandomizerChallenge extends RandomizerSetting {
 
 	protected final Map<Material, Material> randomization = new HashMap<>();
@@ -35,19 +37,14 @@ public class CraftingRandomizerChallenge extends RandomizerSetting {
 	@Override
 	protected void reloadRandomization() {
 
-		List<Material> from = new ArrayList<>(Arrays.asList(Material.values()));
-		from.removeIf(material -> !material.isItem() || !ItemUtils.isObtainableInSurvival(material));
+		List<Material> from = Catalog.OBTAINABLE_ITEMS.toList();
 		random.shuffle(from);
 
-		List<Material> to = new ArrayList<>(Arrays.asList(Material.values()));
-		to.removeIf(material -> !material.isItem() || !ItemUtils.isObtainableInSurvival(material));
+		List<Material> to = Catalog.OBTAINABLE_ITEMS.toList();
 		random.shuffle(to);
 
-		while (!from.isEmpty()) {
-			Material item = from.remove(0);
-			Material result = to.remove(0);
-
-			randomization.put(item, result);
+		for (int i = 0; i < from.size(); i++) {
+			randomization.put(from.get(i), to.get(i));
 		}
 
 	}
@@ -5,12 +5,13 @@ import net.codingarea.challenges.plugin.challenges.type.abstraction.AbstractChal
 import net.codingarea.challenges.plugin.challenges.type.abstraction.RandomizerSetting;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.content.Prefix;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.utils.bukkit.command.Completer;
 import net.codingarea.challenges.plugin.utils.bukkit.command.SenderCommand;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
-import net.codingarea.challenges.plugin.utils.misc.ListBuilder;
 import net.codingarea.challenges.plugin.utils.misc.Utils;
 import org.bukkit.Material;
 import org.bukkit.command.CommandSender;
@@ -30,14 +31,19 @@ import javax.annotation.Nullable;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@ListenOnlyWhenEnabled
 @Since("2.2.0")
 public class EntityLootRandomizerChallenge extends RandomizerSetting implements SenderCommand, Completer {
 
+	private final Set<EntityType> lootableEntities = EnumSet.noneOf(EntityType.class);
 	protected Map<EntityType, LootTable> randomization;
 
 	public EntityLootRandomizerChallenge() {
 		super(MenuType.CHALLENGES);
 		setCategory(SettingCategory.RANDOMIZER);
+
+		lootableEntities.addAll(Catalog.SPAWNABLE_LIVING_ENTITIES.asSet());
+		lootableEntities.removeAll(Arrays.asList(EntityType.ENDER_DRAGON, EntityType.GIANT, EntityType.ILLUSIONER, EntityType.ZOMBIE_HORSE));
 	}
 
 	@NotNull
@@ -50,8 +56,7 @@ public class EntityLootRandomizerChallenge extends RandomizerSetting implements
 	protected void reloadRandomization() {
 		randomization = new HashMap<>();
 
-		List<EntityType> from = new ArrayList<>(Arrays.asList(EntityType.values()));
-		from.removeIf(entityType -> !getLootableEntities().contains(entityType));
+		List<EntityType> from = getLootableEntities();
 		random.shuffle(from);
 		from.removeIf(Objects::isNull);
 
@@ -77,14 +82,7 @@ public class EntityLootRandomizerChallenge extends RandomizerSetting implements
 	}
 
 	public List<EntityType> getLootableEntities() {
-		return new ListBuilder<>(EntityType.values())
-				.removeIf(type -> !type.isSpawnable())
-				.removeIf(type -> !type.isAlive())
-				.remove(EntityType.ENDER_DRAGON)
-				.remove(EntityType.GIANT)
-				.remove(EntityType.ILLUSIONER)
-				.remove(EntityType.ZOMBIE_HORSE)
-				.build();
+		return new ArrayList<>(lootableEntities);
 	}
 
 	@Override
@@ -96,7 +94,7 @@ public class EntityLootRandomizerChallenge extends RandomizerSetting implements
 	public void onEntityDeath(EntityDeathEvent event) {
 		if (!isEnabled()) return;
 		LivingEntity entity = event.getEntity();
-		if (!getLootableEntities().contains(entity.getType())) return;
+		if (!lootableEntities.contains(entity.getType())) return;
 		event.getDrops().clear();
 		if (!randomization.containsKey(entity.getType())) return;
 
@@ -4,6 +4,7 @@ import net.anweisen.utilities.common.annotations.Since;
 import net.codingarea.challenges.plugin.ChallengeAPI;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.Setting;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
@@ -22,6 +23,7 @@ import org.jetbrains.annotations.NotNull;
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.1.2
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.1.2")
 public class EntityRandomEffectChallenge extends Setting {
 
@@ -1,6 +1,5 @@
 package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 
-import net.anweisen.utilities.bukkit.utils.item.ItemUtils;
 import net.anweisen.utilities.common.config.Document;
 import net.codingarea.challenges.plugin.ChallengeAPI;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.EndingForceChallenge;
@@ -11,6 +10,7 @@ import net.codingarea.challenges.plugin.management.challenges.annotations.Exclud
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.management.server.scoreboard.ChallengeBossBar.BossBarInstance;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.BlockUtils;
 import net.codingarea.challenges.plugin.utils.misc.NameHelper;
@@ -21,7 +21,7 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Arrays;
+import java.util.List;
 import java.util.function.BiConsumer;
 
 /**
@@ -31,11 +31,13 @@ import java.util.function.BiConsumer;
 @ExcludeFromRandomChallenges
 public class ForceBlockChallenge extends EndingForceChallenge {
 
+	private final List<Material> blocks = Catalog.OBTAINABLE_BLOCKS.toList();
 	private Material block;
 
 	public ForceBlockChallenge() {
 		super(MenuType.CHALLENGES, 2, 15);
 		setCategory(SettingCategory.FORCE);
+		blocks.removeIf(material -> BlockUtils.isTooHardToGet(material) || material.name().contains("WALL"));
 	}
 
 	@Nonnull
@@ -95,13 +97,7 @@ public class ForceBlockChallenge extends EndingForceChallenge {
 
 	@Override
 	protected void chooseForcing() {
-		Material[] materials = Arrays.stream(Material.values())
-				.filter(Material::isBlock)
-				.filter(ItemUtils::isObtainableInSurvival)
-				.filter(material -> !BlockUtils.isTooHardToGet(material))
-				.filter(material -> !material.name().contains("WALL"))
-				.toArray(length -> new Material[length]);
-		block = globalRandom.choose(materials);
+		block = globalRandom.choose(blocks);
 	}
 
 	@Override
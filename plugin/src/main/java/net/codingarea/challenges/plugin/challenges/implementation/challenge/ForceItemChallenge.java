@@ -1,6 +1,5 @@
 package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 
-import net.anweisen.utilities.bukkit.utils.item.ItemUtils;
 import net.anweisen.utilities.common.annotations.Since;
 import net.anweisen.utilities.common.config.Document;
 import net.codingarea.challenges.plugin.ChallengeAPI;
@@ -14,6 +13,7 @@ import net.codingarea.challenges.plugin.management.menu.generator.categorised.Se
 import net.codingarea.challenges.plugin.management.server.scoreboard.ChallengeBossBar.BossBarInstance;
 import net.codingarea.challenges.plugin.spigot.events.PlayerInventoryClickEvent;
 import net.codingarea.challenges.plugin.spigot.events.PlayerPickupItemEvent;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.BlockUtils;
 import net.codingarea.challenges.plugin.utils.misc.NameHelper;
@@ -29,8 +29,6 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -42,11 +40,13 @@ import java.util.function.BiConsumer;
 @ExcludeFromRandomChallenges
 public class ForceItemChallenge extends CompletableForceChallenge {
 
+	private final List<Material> items = Catalog.OBTAINABLE_ITEMS.toList();
 	private Material item;
 
 	public ForceItemChallenge() {
 		super(MenuType.CHALLENGES, 2, 15);
 		setCategory(SettingCategory.FORCE);
+		items.removeIf(BlockUtils::isTooHardToGet);
 	}
 
 	@Nonnull
@@ -93,11 +93,6 @@ public class ForceItemChallenge extends CompletableForceChallenge {
 
 	@Override
 	protected void chooseForcing() {
-		List<Material> items = new ArrayList<>(Arrays.asList(Material.values()));
-		items.removeIf(material -> !ItemUtils.isObtainableInSurvival(material));
-		items.removeIf(material -> !material.isItem());
-		items.removeIf(BlockUtils::isTooHardToGet);
-
 		item = globalRandom.choose(items);
 	}
 
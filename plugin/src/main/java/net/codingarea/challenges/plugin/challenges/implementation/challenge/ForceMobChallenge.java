@@ -10,6 +10,7 @@ import net.codingarea.challenges.plugin.management.challenges.annotations.Exclud
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.management.server.scoreboard.ChallengeBossBar.BossBarInstance;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.NameHelper;
 import net.codingarea.challenges.plugin.utils.misc.Utils;
@@ -25,8 +26,6 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -37,11 +36,13 @@ import java.util.function.BiConsumer;
 @ExcludeFromRandomChallenges
 public class ForceMobChallenge extends CompletableForceChallenge {
 
+	private final List<EntityType> entities = Catalog.SPAWNABLE_LIVING_ENTITIES.toList();
 	private EntityType entity;
 
 	public ForceMobChallenge() {
 		super(MenuType.CHALLENGES, 2, 15);
 		setCategory(SettingCategory.FORCE);
+		Utils.removeEnums(entities, "ENDER_DRAGON", "ILLUSIONER", "ARMOR_STAND", "ZOMBIE_HORSE", "SKELETON_HORSE", "SHULKER", "WITHER", "GIANT");
 	}
 
 	@Nonnull
@@ -88,11 +89,6 @@ public class ForceMobChallenge extends CompletableForceChallenge {
 
 	@Override
 	protected void chooseForcing() {
-		List<EntityType> entities = new ArrayList<>(Arrays.asList(EntityType.values()));
-		entities.removeIf(type -> !type.isSpawnable());
-		entities.removeIf(type -> !type.isAlive());
-		Utils.removeEnums(entities, "ENDER_DRAGON", "ILLUSIONER", "ARMOR_STAND", "ZOMBIE_HORSE", "SKELETON_HORSE", "SHULKER", "WITHER", "GIANT");
-
 		entity = globalRandom.choose(entities);
 	}
 
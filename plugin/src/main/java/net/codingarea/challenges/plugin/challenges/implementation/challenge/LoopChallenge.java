@@ -3,10 +3,13 @@ package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 import net.anweisen.utilities.bukkit.utils.animation.SoundSample;
 import net.anweisen.utilities.bukkit.utils.misc.BukkitReflectionUtils;
 import net.anweisen.utilities.common.annotations.Since;
+import net.anweisen.utilities.common.config.Document;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.Setting;
+import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeConfigHelper;
 import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeHelper;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.content.Prefix;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.management.scheduler.policy.PlayerCountPolicy;
@@ -15,6 +18,8 @@ import net.codingarea.challenges.plugin.management.scheduler.task.TimerTask;
 import net.codingarea.challenges.plugin.management.scheduler.timer.TimerStatus;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.InventoryUtils;
+import net.codingarea.challenges.plugin.utils.misc.LoopEngine;
+import net.codingarea.challenges.plugin.utils.misc.LoopEngine.Loop;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Sound;
@@ -41,21 +46,26 @@ import org.bukkit.util.RayTraceResult;
 import org.bukkit.util.Vector;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.*;
-import java.util.Map.Entry;
 
 /**
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.0.2
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.0.2")
 public class LoopChallenge extends Setting {
 
-	private static final Map<Loop, Long> loops = new HashMap<>();
+	private final LoopEngine loops;
 
 	public LoopChallenge() {
 		super(MenuType.CHALLENGES);
 		setCategory(SettingCategory.WORLD);
+
+		Document settings = ChallengeConfigHelper.getSettingsDocument();
+		loops = new LoopEngine(20, settings.getInt("loop-limit", 500), settings.getInt("loop-limit-per-player", 100),
+				settings.getInt("loop-executions-per-tick", 200));
 	}
 
 	@Nonnull
@@ -66,17 +76,7 @@ public class LoopChallenge extends Setting {
 
 	@ScheduledTask(ticks = 1, async = false)
 	public void onTick() {
-		long currentTimeMillis = System.currentTimeMillis();
-
-		for (Entry<Loop, Long> entry : new ArrayList<>(loops.entrySet())) {
-
-			if (entry.getValue() + 1000 <= currentTimeMillis) {
-				entry.getKey().execute();
-				loops.put(entry.getKey(), currentTimeMillis);
-			}
-
-		}
-
+		loops.tick();
 	}
 
 	@TimerTask(status = TimerStatus.PAUSED, async = false, playerPolicy = PlayerCountPolicy.ALWAYS)
@@ -92,7 +92,13 @@ public class LoopChallenge extends Setting {
 	}
 
 	private void createLoop(@Nonnull Loop loop) {
-		loops.put(loop, System.currentTimeMillis());
+		if (loops.isExecuting()) return; // Events caused by loops would create new loops endlessly
+		loops.add(loop);
+	}
+
+	@Nonnull
+	public LoopEngine getLoops() {
+		return loops;
 	}
 
 	@EventHandler(priority = EventPriority.MONITOR)
@@ -151,36 +157,36 @@ public class LoopChallenge extends Setting {
 		createLoop(new DropLoop(event.getItemDrop().getItemStack(), event.getPlayer()));
 	}
 
-	private interface Loop {
-
-		void execute();
-
-		default void cancel() {
-			loops.remove(this);
-		}
-
-	}
-
 	private static class ProjectileLaunchLoop implements Loop {
 
 		private final Vector launchVelocity;
 		private final Location launchLocation;
 		private final EntityType entityType;
+		private final UUID owner;
 
 		public ProjectileLaunchLoop(ProjectileLaunchEvent event) {
 			this.launchVelocity = event.getEntity().getVelocity();
 			this.launchLocation = event.getLocation();
 			this.entityType = event.getEntityType();
+			ProjectileSource shooter = event.getEntity().getShooter();
+			this.owner = shooter instanceof Player ? ((Player) shooter).getUniqueId() : null;
 		}
 
 		@Override
-		public void execute() {
-			if (launchLocation.getWorld() == null) return;
+		public boolean execute() {
+			if (launchLocation.getWorld() == null) return true;
 			Projectile projectile = (Projectile) launchLocation.getWorld().spawnEntity(launchLocation, entityType);
 			projectile.setVelocity(launchVelocity);
 			if (projectile instanceof Arrow) {
 				((Arrow) projectile).setPickupStatus(PickupStatus.DISALLOWED);
 			}
+			return true;
+		}
+
+		@Nullable
+		@Override
+		public UUID getOwner() {
+			return owner;
 		}
 
 	}
@@ -189,7 +195,7 @@ public class LoopChallenge extends Setting {
 
 		private final LivingEntity entity;
 		private final DamageCause damageCause;
-		private final double damage;
+		private double damage;
 
 		public EntityDamageLoop(LivingEntity entity, DamageCause cause, double damage) {
 			this.entity = entity;
@@ -198,14 +204,30 @@ public class LoopChallenge extends Setting {
 		}
 
 		@Override
-		public void execute() {
-			if (entity.isDead()) {
-				cancel();
-				return;
-			}
-			if (entity instanceof Player && ignorePlayer(((Player) entity))) return;
+		public boolean execute() {
+			if (entity.isDead()) return false;
+			if (entity instanceof Player && ignorePlayer(((Player) entity))) return true;
 			entity.damage(damage);
+			return true;
+		}
+
+		@Nonnull
+		@Override
+		public Object getKey() {
+			return Arrays.asList(EntityDamageLoop.class, entity.getUniqueId(), damageCause);
+		}
+
+		@Nullable
+		@Override
+		public UUID getOwner() {
+			return entity instanceof Player ? entity.getUniqueId() : null;
 		}
+
+		@Override
+		public void merge(@Nonnull Loop other) {
+			damage = Math.max(damage, ((EntityDamageLoop) other).damage);
+		}
+
 	}
 
 	private static class BlockPlaceLoop implements Loop {
@@ -213,32 +235,45 @@ public class LoopChallenge extends Setting {
 		private final Material material;
 		private final Player player;
 		private final BlockFace blockFace;
+		private final Block startBlock;
 		private Block currentBlock;
 
 		public BlockPlaceLoop(Material material, Player player, BlockFace blockFace, Block currentBlock) {
 			this.material = material;
 			this.player = player;
 			this.blockFace = blockFace;
+			this.startBlock = currentBlock;
 			this.currentBlock = currentBlock;
 		}
 
 		@Override
-		public void execute() {
-			if (ignorePlayer(player)) return;
+		public boolean execute() {
+			if (ignorePlayer(player)) return true;
 
 			currentBlock = currentBlock.getRelative(blockFace);
 
 			if (currentBlock.getY() > currentBlock.getWorld().getMaxHeight() || currentBlock.getY() < BukkitReflectionUtils.getMinHeight(currentBlock.getWorld())) {
-				cancel();
-				return;
+				return false;
 			} else if (!BukkitReflectionUtils.isAir(currentBlock.getType()) && currentBlock.getType().isSolid()) {
-				return;
+				return true;
 			} else if (!decreaseMaterial()) {
-				cancel();
-				return;
+				return false;
 			}
 
 			currentBlock.setType(material);
+			return true;
+		}
+
+		@Nonnull
+		@Override
+		public Object getKey() {
+			return Arrays.asList(BlockPlaceLoop.class, player.getUniqueId(), material, startBlock, blockFace);
+		}
+
+		@Nullable
+		@Override
+		public UUID getOwner() {
+			return player.getUniqueId();
 		}
 
 		private boolean decreaseMaterial() {
@@ -254,6 +289,7 @@ public class LoopChallenge extends Setting {
 
 		private final Player player;
 		private final BlockFace blockFace;
+		private final Block startBlock;
 		private ItemStack itemStack;
 		private Block currentBlock;
 
@@ -261,34 +297,46 @@ public class LoopChallenge extends Setting {
 			this.itemStack = itemStack;
 			this.player = player;
 			this.blockFace = blockFace;
+			this.startBlock = currentBlock;
 			this.currentBlock = currentBlock;
 		}
 
 		@Override
-		public void execute() {
-			if (ignorePlayer(player)) return;
+		public boolean execute() {
+			if (ignorePlayer(player)) return true;
 
 			currentBlock = currentBlock.getRelative(blockFace);
 
 			if (currentBlock.getY() > currentBlock.getWorld().getMaxHeight() || currentBlock.getY() < BukkitReflectionUtils.getMinHeight(currentBlock.getWorld())) {
-				cancel();
-				return;
+				return false;
 			} else if (BukkitReflectionUtils.isAir(currentBlock.getType())) {
-				return;
+				return true;
 			} else if (!decreaseDurability()) {
-				cancel();
-				return;
+				return false;
 			}
 
-			if (currentBlock.getType() == Material.BEDROCK) return;
+			if (currentBlock.getType() == Material.BEDROCK) return true;
 
 			if (cantBeBroken(currentBlock, itemStack)) {
 				currentBlock.setType(Material.AIR);
-				return;
+				return true;
 			}
 
 
 			ChallengeHelper.breakBlock(currentBlock, itemStack, player.getInventory());
+			return true;
+		}
+
+		@Nonnull
+		@Override
+		public Object getKey() {
+			return Arrays.asList(BlockBreakLoop.class, player.getUniqueId(), startBlock, blockFace);
+		}
+
+		@Nullable
+		@Override
+		public UUID getOwner() {
+			return player.getUniqueId();
 		}
 
 		private boolean decreaseDurability() {
@@ -349,15 +397,18 @@ public class LoopChallenge extends Setting {
 		}
 
 		@Override
-		public void execute() {
-			if (ignorePlayer(player)) return;
-
-			if (!decreaseItem()) {
-				cancel();
-				return;
-			}
+		public boolean execute() {
+			if (ignorePlayer(player)) return true;
+			if (!decreaseItem()) return false;
 
 			InventoryUtils.dropItemByPlayer(player.getLocation(), itemStack);
+			return true;
+		}
+
+		@Nullable
+		@Override
+		public UUID getOwner() {
+			return player.getUniqueId();
 		}
 
 		private boolean decreaseItem() {
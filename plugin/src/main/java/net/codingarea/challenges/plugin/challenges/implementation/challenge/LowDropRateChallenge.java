@@ -7,12 +7,12 @@ import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeHelper;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.management.blocks.BlockDropManager.DropPriority;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Material;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Arrays;
 import java.util.Random;
 
 /**
@@ -61,9 +61,9 @@ public class LowDropRateChallenge extends SettingModifier {
 	}
 
 	protected void reloadChances() {
-		Arrays.stream(Material.values()).filter(Material::isBlock).forEach(block -> {
+		for (Material block : Catalog.BLOCKS.asList()) {
 			Challenges.getInstance().getBlockDropManager().setDropChance(block, DropPriority.CHANCE, () -> random.nextInt(10) < getValue());
-		});
+		}
 	}
 
 }
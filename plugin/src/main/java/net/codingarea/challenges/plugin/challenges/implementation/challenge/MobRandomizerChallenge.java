@@ -1,94 +1,178 @@
 package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 
+import net.anweisen.utilities.bukkit.utils.misc.MinecraftVersion;
 import net.anweisen.utilities.common.annotations.Since;
 import net.codingarea.challenges.plugin.ChallengeAPI;
+import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.RandomizerSetting;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
+import net.codingarea.challenges.plugin.management.scheduler.task.ScheduledTask;
 import net.codingarea.challenges.plugin.management.scheduler.task.TimerTask;
 import net.codingarea.challenges.plugin.management.scheduler.timer.TimerStatus;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.ListBuilder;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntitySpawnEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.scheduler.BukkitTask;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.0
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.0")
 public class MobRandomizerChallenge extends RandomizerSetting {
 
+	/**
+	 * The maximum amount of entities replaced per tick when all entities are (un)randomized
+	 */
+	public static final int ENTITIES_PER_TICK = 100;
+
+	private static final EntityCategory[] categories = new EntityCategory[EntityType.values().length];
+
+	static {
+		for (EntityType type : EntityType.values()) {
+			categories[type.ordinal()] = computeEntityCategory(type);
+		}
+	}
+
 	private final Map<EntityType, EntityType> entityRandomizer = new HashMap<>();
 	private final Map<EntityType, EntityType> inverseRandomizer = new HashMap<>();
 
+	/**
+	 * The amount of living entities per world, indexed by the ordinal of their {@link EntityCategory}.
+	 * Counted once when needed and then updated by events, {@link #recountMobs() recounted} regularly
+	 * as entities may also be removed without an event (e.g. despawning).
+	 */
+	private final Map<UUID, int[]> mobCounts = new HashMap<>();
+
+	private final Deque<LivingEntity> pendingReplacements = new ArrayDeque<>();
+	private Consumer<LivingEntity> replaceAction;
+	private BukkitTask replaceTask;
+
 	private boolean inSpawn = false;
 	private boolean initialSpawn = false;
 
 	public MobRandomizerChallenge() {
 		super(MenuType.CHALLENGES);
+
+		// Entities are loaded separately from their chunk since 1.17, so they may not be available in the chunk events
+		if (MinecraftVersion.current().isNewerOrEqualThan(MinecraftVersion.V1_17)) {
+			Challenges.getInstance().registerListener(new EntitiesLoadListener());
+		} else {
+			Challenges.getInstance().registerListener(new ChunkLoadListener());
+		}
 	}
 
 	@Override
 	protected void onEnable() {
 		super.onEnable();
 		if (!shouldExecuteEffect()) return;
-		initialSpawn = true;
 		loadAllEntities();
-		initialSpawn = false;
 	}
 
 	@Override
 	protected void onDisable() {
 		super.onDisable();
 		unLoadAllEntities();
+		mobCounts.clear();
 	}
 
 	@TimerTask(status = TimerStatus.PAUSED, async = false)
 	public void onPause() {
 		unLoadAllEntities();
+		mobCounts.clear();
 	}
 
 	private void loadAllEntities() {
-		for (World world : ChallengeAPI.getGameWorlds()) {
-			for (LivingEntity entity : world.getLivingEntities()) {
-				if (!entityRandomizer.containsKey(entity.getType())) continue;
-				entity.remove();
-				entity.getWorld().spawnEntity(entity.getLocation(), entity.getType());
-
-			}
-
-		}
+		replaceAllEntities(entity -> {
+			if (!entityRandomizer.containsKey(entity.getType())) return;
+			entity.remove();
+			updateMobCount(entity, -1);
+			initialSpawn = true;
+			entity.getWorld().spawnEntity(entity.getLocation(), entity.getType());
+			initialSpawn = false;
+		});
 	}
 
 	private void unLoadAllEntities() {
-		inSpawn = true;
+		replaceAllEntities(entity -> {
+			EntityType entityType = inverseRandomizer.get(entity.getType());
+			if (entityType == null) return;
+			entity.remove();
+			updateMobCount(entity, -1);
+			inSpawn = true;
+			entity.getWorld().spawnEntity(entity.getLocation(), entityType);
+			inSpawn = false;
+		});
+	}
+
+	/**
+	 * Replaces the living entities of all game worlds spread over multiple ticks,
+	 * replacing at most {@link #ENTITIES_PER_TICK} entities per tick.
+	 * A replacement which is still running is finished first.
+	 * While the plugin is disabled, all entities are replaced at once.
+	 */
+	private void replaceAllEntities(@Nonnull Consumer<LivingEntity> action) {
+		finishReplacement();
 
 		for (World world : ChallengeAPI.getGameWorlds()) {
-			for (LivingEntity entity : world.getLivingEntities()) {
-				if (!inverseRandomizer.containsKey(entity.getType())) continue;
-				entity.remove();
-				EntityType entityType = inverseRandomizer.get(entity.getType());
-				entity.getWorld().spawnEntity(entity.getLocation(), entityType);
+			pendingReplacements.addAll(world.getLivingEntities());
+		}
+		if (pendingReplacements.isEmpty()) return;
 
-			}
+		replaceAction = action;
 
+		// On shutdown the plugin is already disabled and can't schedule tasks, the entities have to be restored before the worlds are saved
+		if (!plugin.isEnabled()) {
+			replaceEntities(Integer.MAX_VALUE);
+			return;
 		}
 
-		inSpawn = false;
+		replaceTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> replaceEntities(ENTITIES_PER_TICK), 0, 1);
+	}
+
+	/**
+	 * Applies the remaining entities of a running replacement at once.
+	 * Otherwise the opposite replacement or a new randomization would leave the remaining entities half (un)randomized.
+	 */
+	private void finishReplacement() {
+		if (replaceAction != null) replaceEntities(Integer.MAX_VALUE);
 	}
 
+	private void replaceEntities(int limit) {
+		for (int i = 0; i < limit && !pendingReplacements.isEmpty(); i++) {
+			LivingEntity entity = pendingReplacements.poll();
+			if (!entity.isValid()) continue;
+			replaceAction.accept(entity);
+		}
+		if (!pendingReplacements.isEmpty()) return;
+
+		replaceAction = null;
+		if (replaceTask != null) {
+			replaceTask.cancel();
+			replaceTask = null;
+		}
+	}
 
 	@Nonnull
 	@Override
@@ -98,6 +182,8 @@ public class MobRandomizerChallenge extends RandomizerSetting {
 
 	@Override
 	protected void reloadRandomization() {
+		finishReplacement(); // The running replacement still uses the current randomization
+
 		List<EntityType> entityTypes = getSpawnAbleEntities();
 		List<EntityType> randomEntityTypes = new ArrayList<>(entityTypes);
 		random.shuffle(randomEntityTypes);
@@ -112,9 +198,8 @@ public class MobRandomizerChallenge extends RandomizerSetting {
 	}
 
 	public List<EntityType> getSpawnAbleEntities() {
-		return new ListBuilder<>(EntityType.values())
-				.removeIf(type -> !type.isSpawnable())
-				.removeIf(type -> !type.isAlive())
+		return new ListBuilder<EntityType>()
+				.addAll(Catalog.SPAWNABLE_LIVING_ENTITIES.asList())
 				.remove(EntityType.ENDER_DRAGON)
 				.remove(EntityType.WITHER)
 				.remove(EntityType.GIANT)
@@ -139,30 +224,106 @@ public class MobRandomizerChallenge extends RandomizerSetting {
 		inSpawn = false;
 	}
 
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onEntitySpawnMonitor(@Nonnull EntitySpawnEvent event) {
+		if (!(event.getEntity() instanceof LivingEntity)) return;
+		updateMobCount(event.getEntity(), 1);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onEntityDeath(@Nonnull EntityDeathEvent event) {
+		updateMobCount(event.getEntity(), -1);
+	}
+
+	/**
+	 * Counts the entities loaded with their chunk, used before 1.17
+	 */
+	private final class ChunkLoadListener implements Listener {
+
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onChunkLoad(@Nonnull ChunkLoadEvent event) {
+			updateMobCounts(event.getChunk().getEntities(), 1);
+		}
+
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onChunkUnload(@Nonnull ChunkUnloadEvent event) {
+			updateMobCounts(event.getChunk().getEntities(), -1);
+		}
+
+	}
+
+	/**
+	 * Counts the entities when they are loaded, used since 1.17
+	 */
+	private final class EntitiesLoadListener implements Listener {
+
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onEntitiesLoad(@Nonnull EntitiesLoadEvent event) {
+			updateMobCounts(event.getEntities(), 1);
+		}
+
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onEntitiesUnload(@Nonnull EntitiesUnloadEvent event) {
+			updateMobCounts(event.getEntities(), -1);
+		}
+
+	}
+
+	private void updateMobCounts(@Nonnull Entity[] entities, int change) {
+		updateMobCounts(Arrays.asList(entities), change);
+	}
+
+	private void updateMobCounts(@Nonnull Collection<Entity> entities, int change) {
+		for (Entity entity : entities) {
+			if (entity instanceof LivingEntity) updateMobCount(entity, change);
+		}
+	}
+
+	/**
+	 * Corrects the counters, which drift as entities can be removed without an event
+	 */
+	@ScheduledTask(ticks = 200, async = false)
+	public void recountMobs() {
+		for (World world : ChallengeAPI.getGameWorlds()) {
+			mobCounts.put(world.getUID(), countMobs(world));
+		}
+	}
+
+	private void updateMobCount(@Nonnull Entity entity, int change) {
+		int[] counts = mobCounts.get(entity.getWorld().getUID());
+		if (counts == null) return; // Counted when needed
+		int index = getEntityCategory(entity.getType()).ordinal();
+		counts[index] = Math.max(0, counts[index] + change);
+	}
+
 	private boolean maySpawn(@Nonnull EntityType newType, @Nonnull World world) {
 		EntityCategory category = getEntityCategory(newType);
-		int currentMobCount = getCurrentMobCount(category, world);
-		int spawnLimit = getEntityCategory(newType).getSpawnLimit(world);
+		int currentMobCount = getMobCounts(world)[category.ordinal()];
+		int spawnLimit = category.getSpawnLimit(world);
 		return currentMobCount < spawnLimit;
 	}
 
-	private int getCurrentMobCount(@Nonnull EntityCategory entityState, @Nonnull World world) {
-
-		int mobCount = 0;
-
-		for (Entity entity : world.getLivingEntities()) {
-			if (!(entity instanceof LivingEntity)) continue;
-			EntityCategory entityTypeState = getEntityCategory(entity.getType());
-			if (entityState == entityTypeState) {
-				mobCount++;
-			}
+	@Nonnull
+	private int[] getMobCounts(@Nonnull World world) {
+		return mobCounts.computeIfAbsent(world.getUID(), key -> countMobs(world));
+	}
 
+	@Nonnull
+	private int[] countMobs(@Nonnull World world) {
+		int[] counts = new int[EntityCategory.values().length];
+		for (LivingEntity entity : world.getLivingEntities()) {
+			counts[getEntityCategory(entity.getType()).ordinal()]++;
 		}
+		return counts;
+	}
 
-		return mobCount;
+	@Nonnull
+	private static EntityCategory getEntityCategory(@Nonnull EntityType type) {
+		return categories[type.ordinal()];
 	}
 
-	private EntityCategory getEntityCategory(@Nonnull EntityType type) {
+	@Nonnull
+	private static EntityCategory computeEntityCategory(@Nonnull EntityType type) {
 		Class<? extends Entity> entity = type.getEntityClass();
 		if (entity == null) return EntityCategory.OTHER;
 
@@ -49,7 +49,7 @@ public class MobsRespawnInEndChallenge extends Setting {
 
 	@Override
 	protected void onEnable() {
-		bossbar.setContent((bar, player) -> {
+		bossbar.setSharedContent(bar -> {
 			bar.setColor(BarColor.PURPLE);
 			bar.setTitle(Message.forName("bossbar-respawn-end").asString(totalMobsInEnd));
 		});
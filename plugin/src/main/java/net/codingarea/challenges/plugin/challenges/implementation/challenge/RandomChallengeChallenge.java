@@ -53,7 +53,7 @@ public class RandomChallengeChallenge extends TimedChallenge {
 
 	@Override
 	protected void onEnable() {
-		bossbar.setContent((bossbar, player) -> {
+		bossbar.setSharedContent(bossbar -> {
 			if (lastUsed == null) {
 				bossbar.setTitle(Message.forName("bossbar-random-challenge-waiting").asString());
 				return;
@@ -2,17 +2,22 @@ package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 
 import com.google.common.collect.Lists;
 import net.anweisen.utilities.bukkit.utils.logging.Logger;
+import net.anweisen.utilities.bukkit.utils.misc.BukkitReflectionUtils;
 import net.anweisen.utilities.common.annotations.Since;
-import net.anweisen.utilities.common.collection.pair.Triple;
 import net.anweisen.utilities.common.config.Document;
 import net.anweisen.utilities.common.config.document.GsonDocument;
 import net.codingarea.challenges.plugin.ChallengeAPI;
+import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.Setting;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.entities.SegmentedGamestateSaveable;
+import net.codingarea.challenges.plugin.management.blocks.BlockEditManager;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.spigot.events.PlayerIgnoreStatusChangeEvent;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.ChunkScanner;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
+import net.codingarea.challenges.plugin.utils.misc.VarIntUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Material;
@@ -31,19 +36,190 @@ import org.bukkit.event.vehicle.VehicleMoveEvent;
 import org.bukkit.event.world.ChunkUnloadEvent;
 import org.jetbrains.annotations.NotNull;
 
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 /**
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.1.1
  */
 @Since("2.1.1")
-public class RepeatInChunkChallenge extends Setting {
+public class RepeatInChunkChallenge extends Setting implements SegmentedGamestateSaveable {
+
+	/**
+	 * The blocks changed in one world, stored by their position relative to the chunk.
+	 * Positions are packed into an int ({@code (y - minHeight) << 8 | z << 4 | x}) indexing a dense array of palette ids.
+	 */
+	private static final class ChangedBlocks {
+
+		private final int minHeight;
+		private final short[] ids;
+		private final BitSet changed;
+		private final List<BlockData> palette = new ArrayList<>();
+		private final Map<BlockData, Short> paletteIds = new HashMap<>();
+
+		/**
+		 * The changes as arrays which can safely be read async, rebuilt after changes
+		 */
+		private volatile int[] compiledPositions;
+		private volatile BlockData[] compiledData;
+
+		private ChangedBlocks(int minHeight, int maxHeight) {
+			this.minHeight = minHeight;
+			this.ids = new short[Math.max(0, maxHeight - minHeight) << 8];
+			this.changed = new BitSet(ids.length);
+			palette.add(null); // 0 marks unchanged positions
+		}
+
+		private void set(int x, int y, int z, @Nonnull BlockData data) {
+			int index = getIndex(x, y, z);
+			if (index < 0 || index >= ids.length) return;
+
+			Short id = paletteIds.get(data);
+			if (id == null) {
+				if (palette.size() > Short.MAX_VALUE) compactPalette();
+				if (palette.size() > Short.MAX_VALUE) {
+					Logger.error("RepeatInChunkChallenge: Too many different block states, dropping change: {}", data.getAsString());
+					return;
+				}
+				id = (short) palette.size();
+				palette.add(data);
+				paletteIds.put(data, id);
+			}
+
+			ids[index] = id;
+			changed.set(index);
+			compiledPositions = null;
+		}
+
+		/**
+		 * Drops palette entries which are no longer used by any position and reassigns the ids of the remaining ones
+		 */
+		private void compactPalette() {
+			short[] remapped = new short[palette.size()];
+			List<BlockData> usedPalette = new ArrayList<>();
+			usedPalette.add(null);
+			paletteIds.clear();
+
+			for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1)) {
+				short id = ids[index];
+				if (remapped[id] == 0) {
+					remapped[id] = (short) usedPalette.size();
+					usedPalette.add(palette.get(id));
+					paletteIds.put(palette.get(id), remapped[id]);
+				}
+				ids[index] = remapped[id];
+			}
+
+			palette.clear();
+			palette.addAll(usedPalette);
+		}
+
+		private int getIndex(int x, int y, int z) {
+			return (y - minHeight) << 8 | (z & 0xF) << 4 | (x & 0xF);
+		}
+
+		private boolean isEmpty() {
+			return changed.isEmpty();
+		}
 
-	private final Map<String, Map<Triple<Integer, Integer, Integer>, BlockData>> changedBlocks = new HashMap<>();
+		/**
+		 * Has to be called on the primary thread, the returned arrays must not be modified
+		 */
+		@Nonnull
+		private int[] getCompiledPositions() {
+			int[] positions = compiledPositions;
+			if (positions != null) return positions;
+
+			positions = new int[changed.cardinality()];
+			BlockData[] data = new BlockData[positions.length];
+			int count = 0;
+			for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1)) {
+				positions[count] = index;
+				data[count] = palette.get(ids[index]);
+				count++;
+			}
+			compiledData = data;
+			compiledPositions = positions;
+			return positions;
+		}
+
+		@Nonnull
+		private BlockData[] getCompiledData() {
+			getCompiledPositions();
+			return compiledData;
+		}
+
+		/**
+		 * Captures the changes on the primary thread, the returned snapshot can be written async
+		 */
+		@Nonnull
+		private Consumer<Document> capture() {
+			int[] positions = getCompiledPositions();
+			BlockData[] data = getCompiledData();
+			return document -> write(document, minHeight, positions, data);
+		}
+
+		/**
+		 * Writes the changes as a palette of block data strings and base64 encoded pairs of
+		 * varint position deltas and palette ids. Palette entries which are no longer used are dropped.
+		 */
+		private static void write(@Nonnull Document document, int minHeight, @Nonnull int[] positions, @Nonnull BlockData[] data) {
+			Map<BlockData, Integer> remapped = new HashMap<>();
+			List<String> usedPalette = new ArrayList<>();
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			int previous = 0;
+			for (int i = 0; i < positions.length; i++) {
+				Integer newId = remapped.get(data[i]);
+				if (newId == null) {
+					newId = usedPalette.size();
+					remapped.put(data[i], newId);
+					usedPalette.add(data[i].getAsString());
+				}
+				VarIntUtils.writeVarInt(output, positions[i] - previous);
+				VarIntUtils.writeVarInt(output, newId);
+				previous = positions[i];
+			}
+
+			document.set("min-height", minHeight);
+			document.set("palette", usedPalette);
+			document.set("blocks", Base64.getEncoder().encodeToString(output.toByteArray()));
+		}
+
+		private void read(@Nonnull Document document, @Nonnull String worldName) {
+			List<String> storedPalette = document.getStringList("palette");
+			BlockData[] data = new BlockData[storedPalette.size()];
+			for (int i = 0; i < data.length; i++) {
+				try {
+					data[i] = Bukkit.createBlockData(storedPalette.get(i));
+				} catch (IllegalArgumentException exception) {
+					Logger.error("RepeatInChunkChallenge: Invalid Change Data: {}, {}", worldName, storedPalette.get(i));
+				}
+			}
+
+			int storedMinHeight = document.getInt("min-height", minHeight);
+			ByteArrayInputStream input = new ByteArrayInputStream(Base64.getDecoder().decode(document.getString("blocks", "")));
+			int index = 0;
+			while (input.available() > 0) {
+				index += VarIntUtils.readVarInt(input);
+				int id = VarIntUtils.readVarInt(input);
+				if (id < 0 || id >= data.length || data[id] == null) continue;
+				set(index & 0xF, (index >> 8) + storedMinHeight, index >> 4 & 0xF, data[id]);
+			}
+		}
+
+	}
+
+	private final Map<String, ChangedBlocks> changedBlocks = new HashMap<>();
 	private final Set<Chunk> updatedChunks = new HashSet<>();
 
+	private volatile boolean dirty = true;
+
 	public RepeatInChunkChallenge() {
 		super(MenuType.CHALLENGES);
 		setCategory(SettingCategory.WORLD);
@@ -57,73 +233,97 @@ public class RepeatInChunkChallenge extends Setting {
 
 	@Override
 	public void writeGameState(@NotNull Document document) {
+		captureGameState().accept(document);
+	}
 
-		GsonDocument changedDocument = new GsonDocument();
+	@Override
+	public boolean isGamestateDirty() {
+		return dirty;
+	}
 
-		for (Entry<String, Map<Triple<Integer, Integer, Integer>, BlockData>> entry : changedBlocks.entrySet()) {
+	@Override
+	public void markGamestateDirty() {
+		dirty = true;
+	}
 
-			List<Document> list = Lists.newLinkedList();
+	@NotNull
+	@Override
+	public Consumer<Document> captureGameState() {
+		dirty = false;
 
-			for (Entry<Triple<Integer, Integer, Integer>, BlockData> blockEntry : entry.getValue().entrySet()) {
-				GsonDocument blockDocument = new GsonDocument();
-				Triple<Integer, Integer, Integer> pos = blockEntry.getKey();
-				blockDocument.set("x", pos.getFirst());
-				blockDocument.set("y", pos.getSecond());
-				blockDocument.set("z", pos.getThird());
-				blockDocument.set("data", blockEntry.getValue().getAsString());
-				list.add(blockDocument);
-			}
-			if (!list.isEmpty()) {
-				changedDocument.set(entry.getKey(), list);
-			}
+		Map<String, Consumer<Document>> worlds = new HashMap<>();
+		for (Entry<String, ChangedBlocks> entry : changedBlocks.entrySet()) {
+			if (entry.getValue().isEmpty()) continue;
+			worlds.put(entry.getKey(), entry.getValue().capture());
 		}
 
-		document.set("changed-blocks", changedDocument);
+		return document -> {
+			GsonDocument changedDocument = new GsonDocument();
+			worlds.forEach((world, snapshot) -> {
+				GsonDocument worldDocument = new GsonDocument();
+				snapshot.accept(worldDocument);
+				changedDocument.set(world, worldDocument);
+			});
+			document.set("repeated-blocks", changedDocument);
+		};
 	}
 
 	@Override
 	public void loadGameState(@NotNull Document document) {
 		changedBlocks.clear();
+		dirty = true;
 
-		Document changedDocument = document.getDocument("changed-blocks");
+		Document changedDocument = document.getDocument("repeated-blocks");
+		Document legacyDocument = document.getDocument("changed-blocks");
 
 		for (World world : Bukkit.getWorlds()) {
-			List<Document> list = changedDocument.getDocumentList(world.getName());
-			Map<Triple<Integer, Integer, Integer>, BlockData> blockMap = changedBlocks.getOrDefault(world.getName(), new HashMap<>());
-			changedBlocks.putIfAbsent(world.getName(), blockMap);
+			if (changedDocument != null && changedDocument.contains(world.getName())) {
+				getChangedBlocks(world).read(changedDocument.getDocument(world.getName()), world.getName());
+			} else if (legacyDocument != null && legacyDocument.contains(world.getName())) {
+				loadLegacyGameState(world, legacyDocument.getDocumentList(world.getName()));
+			}
+		}
 
-			for (Document blockDocument : list) {
+	}
 
-				int x = blockDocument.getInt("x");
-				int y = blockDocument.getInt("y");
-				int z = blockDocument.getInt("z");
+	/**
+	 * Loads changes stored as one document per block, the format used before 2.2.3
+	 */
+	private void loadLegacyGameState(@Nonnull World world, @Nonnull List<Document> list) {
+		ChangedBlocks blocks = getChangedBlocks(world);
 
-				if (x < 0 || z < 0) {
-					Logger.error("RepeatInChunkChallenge: Invalid Change Position: {}, {}, {}, {}", world.getName(), x, y, z);
-					continue;
-				}
+		for (Document blockDocument : list) {
 
-				Triple<Integer, Integer, Integer> pos = new Triple<>(x, y, z);
+			int x = blockDocument.getInt("x");
+			int y = blockDocument.getInt("y");
+			int z = blockDocument.getInt("z");
 
-				String data = blockDocument.getString("data");
-				BlockData blockData;
-				if (data != null) {
-					try {
-						blockData = Bukkit.createBlockData(data);
-					} catch (IllegalArgumentException exception) {
-						Logger.error("RepeatInChunkChallenge: Invalid Change Data: {}, {}, {}, {}, {}", world.getName(), x, y, z, data);
-						continue;
-					}
-				} else {
-					Logger.error("RepeatInChunkChallenge: Invalid Change Data: {}, {}, {}, {}, {}", world.getName(), x, y, z, null);
+			if (x < 0 || z < 0) {
+				Logger.error("RepeatInChunkChallenge: Invalid Change Position: {}, {}, {}, {}", world.getName(), x, y, z);
+				continue;
+			}
+
+			String data = blockDocument.getString("data");
+			BlockData blockData;
+			if (data != null) {
+				try {
+					blockData = Bukkit.createBlockData(data);
+				} catch (IllegalArgumentException exception) {
+					Logger.error("RepeatInChunkChallenge: Invalid Change Data: {}, {}, {}, {}, {}", world.getName(), x, y, z, data);
 					continue;
 				}
-
-				blockMap.put(pos, blockData);
+			} else {
+				Logger.error("RepeatInChunkChallenge: Invalid Change Data: {}, {}, {}, {}, {}", world.getName(), x, y, z, null);
+				continue;
 			}
 
+			blocks.set(x, y, z, blockData);
 		}
+	}
 
+	@Nonnull
+	private ChangedBlocks getChangedBlocks(@Nonnull World world) {
+		return changedBlocks.computeIfAbsent(world.getName(), key -> new ChangedBlocks(BukkitReflectionUtils.getMinHeight(world), world.getMaxHeight()));
 	}
 
 	@Override
@@ -139,10 +339,8 @@ public class RepeatInChunkChallenge extends Setting {
 
 		Bukkit.getScheduler().runTask(plugin, () -> {
 
-			Map<Triple<Integer, Integer, Integer>, BlockData> map = changedBlocks
-					.getOrDefault(world.getName(), new HashMap<>());
-			changedBlocks.putIfAbsent(world.getName(), map);
-			map.put(new Triple<>(x, y, z), data);
+			getChangedBlocks(world).set(x, y, z, data);
+			dirty = true;
 
 			for (Player player : ChallengeAPI.getIngamePlayers()) {
 
@@ -198,26 +396,34 @@ public class RepeatInChunkChallenge extends Setting {
 	private void updateChunk(Chunk chunk) {
 		updatedChunks.add(chunk);
 
-		Map<Triple<Integer, Integer, Integer>, BlockData> dataMap = changedBlocks.getOrDefault(chunk.getWorld().getName(), new HashMap<>());
-
-		for (Entry<Triple<Integer, Integer, Integer>, BlockData> blockEntry : dataMap.entrySet()) {
-			Triple<Integer, Integer, Integer> pos = blockEntry.getKey();
-			BlockData blockData = blockEntry.getValue();
-			Block block = chunk.getBlock(pos.getFirst(), pos.getSecond(), pos.getThird());
-			if (!block.getBlockData().matches(blockData)) {
-				setBlockData(block, blockData, false);
-			}
+		ChangedBlocks blocks = changedBlocks.get(chunk.getWorld().getName());
+		if (blocks == null || blocks.isEmpty()) return;
 
-		}
+		int[] positions = blocks.getCompiledPositions();
+		BlockData[] data = blocks.getCompiledData();
+		int minHeight = blocks.minHeight;
 
+		ChunkScanner.scan(chunk, (snapshot, changes) -> {
+			for (int i = 0; i < positions.length; i++) {
+				int index = positions[i];
+				int x = index & 0xF, y = (index >> 8) + minHeight, z = index >> 4 & 0xF;
+				BlockData current = snapshot.getBlockData(x, y, z);
+				if (isProtected(current.getMaterial()) || current.matches(data[i])) continue;
+				changes.add(x, y, z, i);
+			}
+		}, changes -> {
+			BlockEditManager edits = Challenges.getInstance().getBlockEditManager();
+			changes.forEach((x, y, z, i) -> edits.setBlockData(changes.getWorld(), x, y, z, data[i], false));
+		});
+	}
 
+	private boolean isProtected(@Nonnull Material type) {
+		return type == Material.END_PORTAL || type == Material.END_PORTAL_FRAME || type == Material.END_GATEWAY;
 	}
 
 	private void setBlockData(Block block, BlockData blockData, boolean update) {
-		if (block.getType() == Material.END_PORTAL ||
-				block.getType() == Material.END_PORTAL_FRAME ||
-				block.getType() == Material.END_GATEWAY) return;
-		block.setBlockData(blockData, update);
+		if (isProtected(block.getType())) return;
+		Challenges.getInstance().getBlockEditManager().setBlockData(block, blockData, update);
 	}
 
 	private int getRelativeChunkCoordinate(int worldCoordinate) {
@@ -1,27 +1,29 @@
 package net.codingarea.challenges.plugin.challenges.implementation.challenge;
 
 import net.anweisen.utilities.bukkit.utils.misc.BukkitReflectionUtils;
+import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.SettingModifier;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.blocks.BlockEditManager;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.BlockUtils;
 import org.bukkit.*;
-import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.player.PlayerMoveEvent;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * @author anweisen | https://github.com/anweisen
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 1.0
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 public class SurfaceHoleChallenge extends SettingModifier {
 
 	public SurfaceHoleChallenge() {
@@ -39,24 +41,16 @@ public class SurfaceHoleChallenge extends SettingModifier {
 		if (location == null) return;
 		if (BlockUtils.isSameBlockLocationIgnoreHeight(event.getFrom(), location)) return;
 
-		Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, () -> {
+		Bukkit.getScheduler().runTaskLater(plugin, () -> {
 			if (!shouldExecuteEffect()) return;
 
 			World world = event.getPlayer().getWorld();
-
-			List<Block> blocks = new ArrayList<>();
+			BlockData data = Material.AIR.createBlockData();
+			BlockEditManager edits = Challenges.getInstance().getBlockEditManager();
 			for (int y = BukkitReflectionUtils.getMinHeight(world); y < world.getMaxHeight(); y++) {
-				Location blockLocation = location.clone();
-				blockLocation.setY(y);
-				blocks.add(blockLocation.getBlock());
+				edits.setBlockData(world, location.getBlockX(), y, location.getBlockZ(), data, false);
 			}
 
-			Bukkit.getScheduler().runTask(plugin, () -> {
-				for (Block block : blocks) {
-					block.setType(Material.AIR, false);
-				}
-			});
-
 		}, getValue() * 20L);
 
 	}
@@ -6,6 +6,7 @@ import net.codingarea.challenges.plugin.challenges.type.abstraction.TimedChallen
 import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeHelper;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.content.Prefix;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
@@ -25,6 +26,7 @@ import javax.annotation.Nullable;
  * @author anweisen | https://github.com/anweisen
  * @since 1.3
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("1.3")
 public class TrafficLightChallenge extends TimedChallenge {
 
@@ -56,7 +58,7 @@ public class TrafficLightChallenge extends TimedChallenge {
 
 	@Override
 	public void onEnable() {
-		bossbar.setContent((bossbar, player) -> {
+		bossbar.setSharedContent(bossbar -> {
 			switch (state) {
 				case GREEN:
 					bossbar.setColor(BarColor.GREEN);
@@ -9,28 +9,25 @@ import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeHelper;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.ChunkScanner;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
-import net.codingarea.challenges.plugin.utils.misc.ListBuilder;
+import net.codingarea.challenges.plugin.utils.misc.LongIntHashMap;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.World.Environment;
-import org.bukkit.block.Block;
 import org.bukkit.boss.BarColor;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
-import org.bukkit.event.world.ChunkUnloadEvent;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.function.BiConsumer;
+import java.util.UUID;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -42,7 +39,10 @@ public class TsunamiChallenge extends TimedChallenge {
 
 	public static final int RANGE = 5;
 
-	private final List<Chunk> floodedChunks = new ArrayList<>();
+	/**
+	 * The height up to which each chunk has already been flooded, indexed by world and {@link #getChunkKey(int, int) chunk key}
+	 */
+	private final Map<UUID, LongIntHashMap> floodedHeights = new HashMap<>();
 
 	private int waterHeight = Integer.MAX_VALUE,
 			lavaHeight = 0;
@@ -126,13 +126,10 @@ public class TsunamiChallenge extends TimedChallenge {
 			}
 		}
 
-		List<Chunk> previouslyFlooded = new ArrayList<>(floodedChunks);
-		bossbar.update();
-		floodedChunks.clear();
-		for (Chunk chunk : getChunksToFlood()) {
-			floodChunk(chunk, !previouslyFlooded.contains(chunk));
-		}
-
+		Bukkit.getScheduler().runTask(plugin, () -> {
+			bossbar.update();
+			broadcastFiltered(player -> floodChunksAround(player.getLocation().getChunk()));
+		});
 	}
 
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -144,9 +141,7 @@ public class TsunamiChallenge extends TimedChallenge {
 		Chunk newChunk = event.getTo().getChunk();
 		if (event.getFrom().getChunk() == newChunk) return;
 
-		for (Chunk chunk : getChunksAroundChunk(newChunk)) {
-			floodChunk(chunk, true);
-		}
+		floodChunksAround(newChunk);
 	}
 
 	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -160,66 +155,55 @@ public class TsunamiChallenge extends TimedChallenge {
 
 		bossbar.update();
 
-		for (Chunk chunk : getChunksAroundChunk(newChunk)) {
-			floodChunk(chunk, true);
-		}
+		floodChunksAround(newChunk);
 	}
 
-	@EventHandler
-	public void onChunkUnload(@Nonnull ChunkUnloadEvent event) {
-		floodedChunks.remove(event.getChunk());
-	}
+	private void floodChunksAround(@Nonnull Chunk origin) {
+		World world = origin.getWorld();
+		if (world.getEnvironment() == Environment.THE_END) return;
 
-	private void floodChunk(@Nonnull Chunk chunk, boolean discovered) {
-		if (floodedChunks.contains(chunk)) return;
-		floodedChunks.add(chunk);
-		if (chunk.getWorld().getEnvironment() == Environment.THE_END) return;
+		LongIntHashMap heights = floodedHeights.computeIfAbsent(world.getUID(), key -> new LongIntHashMap(256));
+		for (int x = origin.getX() - RANGE; x <= origin.getX() + RANGE; x++) {
+			for (int z = origin.getZ() - RANGE; z <= origin.getZ() + RANGE; z++) {
+				floodChunk(world, heights, x, z);
+			}
+		}
+	}
 
-		boolean overworld = chunk.getWorld().getEnvironment() == Environment.NORMAL;
+	/**
+	 * Floods the layers the chunk is missing: the whole chunk if it was never flooded before,
+	 * otherwise only the layers added since it was last flooded.
+	 */
+	private void floodChunk(@Nonnull World world, @Nonnull LongIntHashMap heights, int chunkX, int chunkZ) {
+		boolean overworld = world.getEnvironment() == Environment.NORMAL;
 		int height = overworld ? waterHeight : lavaHeight;
-		floodChunk0(chunk, discovered ? null : height - 1, height, overworld, (delay, task) -> Bukkit.getScheduler().runTaskLater(plugin, task, delay));
+
+		long key = getChunkKey(chunkX, chunkZ);
+		int floodedHeight = heights.get(key, Integer.MIN_VALUE);
+		if (floodedHeight >= height) return;
+		heights.put(key, height);
+
+		floodChunk0(world.getChunkAt(chunkX, chunkZ), floodedHeight == Integer.MIN_VALUE ? null : floodedHeight, height, overworld);
 	}
 
-	private void floodChunk0(@Nonnull Chunk chunk, @Nullable Integer givenStartAt, int height, boolean overworld, @Nonnull BiConsumer<Integer, Runnable> executor) {
+	private void floodChunk0(@Nonnull Chunk chunk, @Nullable Integer givenStartAt, int height, boolean overworld) {
 		int startAt = givenStartAt != null ? Math.max(BukkitReflectionUtils.getMinHeight(chunk.getWorld()) + 1, givenStartAt) : BukkitReflectionUtils
 				.getMinHeight(chunk.getWorld()) + 1;
-		Map<Integer, List<Block>> blocksByDelay = new HashMap<>();
-		Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+		ChunkScanner.scan(chunk, (snapshot, positions) -> {
 			for (int x = 0; x < 16; x++) {
 				for (int z = 0; z < 16; z++) {
 					for (int y = startAt + 1; y <= height; y++) {
-						List<Block> blocks = blocksByDelay.computeIfAbsent(0, key -> new ArrayList<>(16));
-						Block block = chunk.getBlock(x, y, z);
-						Material type = block.getType();
-						if (type != Material.WATER && type != Material.LAVA && block.isPassable() || (overworld && type == Material.LAVA))
-							blocks.add(block);
+						Material type = snapshot.getBlockType(x, y, z);
+						if (type != Material.WATER && type != Material.LAVA && !type.isSolid() || (overworld && type == Material.LAVA))
+							positions.add(x, y, z);
 					}
 				}
 			}
-			blocksByDelay.forEach((delay, blocks) -> {
-				executor.accept(delay, () -> {
-					for (Block block : blocks) {
-						block.setType(overworld ? Material.WATER : Material.LAVA, false);
-					}
-				});
-			});
-		});
+		}, positions -> positions.apply((overworld ? Material.WATER : Material.LAVA).createBlockData(), false));
 	}
 
-	private List<Chunk> getChunksToFlood() {
-		return new ListBuilder<Chunk>().fill(chunkListBuilder -> {
-			broadcastFiltered(player -> chunkListBuilder.addAllIfNotContains(getChunksAroundChunk(player.getLocation().getChunk())));
-		}).build();
-	}
-
-	private List<Chunk> getChunksAroundChunk(@Nonnull Chunk origin) {
-		return new ListBuilder<Chunk>().fill(builder -> {
-			for (int x = -RANGE; x <= RANGE; x++) {
-				for (int z = -RANGE; z <= RANGE; z++) {
-					builder.addIfNotContains(origin.getWorld().getChunkAt(origin.getX() + x, origin.getZ() + z));
-				}
-			}
-		}).build();
+	private static long getChunkKey(int chunkX, int chunkZ) {
+		return (long) chunkX << 32 | (chunkZ & 0xFFFFFFFFL);
 	}
 
 	@Override
@@ -234,6 +218,7 @@ public class TsunamiChallenge extends TimedChallenge {
 		super.loadGameState(document);
 		waterHeight = document.getInt("waterHeight");
 		lavaHeight = document.getInt("lavaHeight");
+		floodedHeights.clear();
 	}
 
 }
\ No newline at end of file
@@ -38,7 +38,7 @@ public class ZeroHeartsChallenge extends SettingModifier {
 
 	@Override
 	protected void onEnable() {
-		bossbar.setContent((bossbar, player) -> {
+		bossbar.setSharedContent(bossbar -> {
 			int currentTime = getCurrentTime();
 			int maxTime = getValue() * 60;
 			bossbar.setTitle(Message.forName("bossbar-zero-hearts").asString(maxTime - currentTime));
@@ -1,7 +1,6 @@
 package net.codingarea.challenges.plugin.challenges.implementation.goal;
 
 import net.anweisen.utilities.bukkit.utils.animation.SoundSample;
-import net.anweisen.utilities.bukkit.utils.item.ItemUtils;
 import net.anweisen.utilities.common.annotations.Since;
 import net.anweisen.utilities.common.collection.SeededRandomWrapper;
 import net.anweisen.utilities.common.config.Document;
@@ -13,6 +12,7 @@ import net.codingarea.challenges.plugin.management.server.ChallengeEndCause;
 import net.codingarea.challenges.plugin.spigot.events.PlayerInventoryClickEvent;
 import net.codingarea.challenges.plugin.spigot.events.PlayerPickupItemEvent;
 import net.codingarea.challenges.plugin.utils.bukkit.command.SenderCommand;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.NameHelper;
 import org.bukkit.Bukkit;
@@ -27,7 +27,6 @@ import org.bukkit.inventory.ItemStack;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -57,9 +56,7 @@ public class CollectAllItemsGoal extends SettingGoal implements SenderCommand {
 	}
 
 	private void reloadItemsToFind() {
-		allItemsToFind = new ArrayList<>(Arrays.asList(Material.values()));
-		allItemsToFind.removeIf(material -> !material.isItem());
-		allItemsToFind.removeIf(material -> !ItemUtils.isObtainableInSurvival(material));
+		allItemsToFind = Catalog.OBTAINABLE_ITEMS.toList();
 		Collections.shuffle(allItemsToFind, random);
 		itemsToFind = new ArrayList<>(allItemsToFind);
 		nextItem();
@@ -78,7 +75,7 @@ public class CollectAllItemsGoal extends SettingGoal implements SenderCommand {
 
 	@Override
 	protected void onEnable() {
-		bossbar.setContent((bossbar, player) -> {
+		bossbar.setSharedContent(bossbar -> {
 			if (currentItem == null) {
 				bossbar.setTitle(Message.forName("bossbar-all-items-finished").asString());
 				return;
@@ -3,6 +3,7 @@ package net.codingarea.challenges.plugin.challenges.implementation.goal;
 import net.anweisen.utilities.common.annotations.Since;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.ItemCollectionGoal;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Material;
@@ -12,6 +13,7 @@ import org.jetbrains.annotations.NotNull;
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.1.2
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.1.2")
 public class CollectIceBlocksGoal extends ItemCollectionGoal {
 
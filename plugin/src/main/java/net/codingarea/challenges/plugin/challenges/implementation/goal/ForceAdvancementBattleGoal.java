@@ -5,6 +5,7 @@ import net.anweisen.utilities.common.annotations.Since;
 import net.anweisen.utilities.common.config.Document;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.ForceBattleGoal;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.utils.bukkit.misc.BukkitStringUtils;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
@@ -20,13 +21,13 @@ import org.bukkit.event.player.PlayerAdvancementDoneEvent;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  * @author sehrschlechtYT | https://github.com/sehrschlechtYT
  * @since 2.2.0
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.2.0")
 public class ForceAdvancementBattleGoal extends ForceBattleGoal<Advancement> {
 
@@ -65,7 +66,7 @@ public class ForceAdvancementBattleGoal extends ForceBattleGoal<Advancement> {
 
 	@Override
 	public void setFoundListInDocument(Document document, String key, List<Advancement> target) {
-		List<String> foundItems = new LinkedList<>();
+		List<String> foundItems = new ArrayList<>(target.size());
 		for (Advancement advancement : target) {
 			foundItems.add(advancement.getKey().toString());
 		}
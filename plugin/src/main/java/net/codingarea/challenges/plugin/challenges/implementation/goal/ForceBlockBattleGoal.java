@@ -1,14 +1,15 @@
 package net.codingarea.challenges.plugin.challenges.implementation.goal;
 
-import net.anweisen.utilities.bukkit.utils.item.ItemUtils;
 import net.anweisen.utilities.common.annotations.Since;
 import net.anweisen.utilities.common.config.Document;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.ForceBattleDisplayGoal;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.management.scheduler.policy.TimerPolicy;
 import net.codingarea.challenges.plugin.management.scheduler.task.ScheduledTask;
 import net.codingarea.challenges.plugin.utils.bukkit.misc.BukkitStringUtils;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.InventoryUtils;
 import org.bukkit.Material;
@@ -18,14 +19,13 @@ import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
  * @author sehrschlechtYT | https://github.com/sehrschlechtYT
  * @since 2.2.0
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.2.0")
 public class ForceBlockBattleGoal extends ForceBattleDisplayGoal<Material> {
 
@@ -40,9 +40,7 @@ public class ForceBlockBattleGoal extends ForceBattleDisplayGoal<Material> {
 
     @Override
     protected Material[] getTargetsPossibleToFind() {
-        List<Material> materials = new ArrayList<>(Arrays.asList(Material.values()));
-        materials.removeIf(material -> !material.isBlock());
-        materials.removeIf(material -> !ItemUtils.isObtainableInSurvival(material));
+        List<Material> materials = Catalog.OBTAINABLE_BLOCKS.toList();
         materials.removeIf(material -> material.name().contains("WALL"));
         return materials.toArray(new Material[0]);
     }
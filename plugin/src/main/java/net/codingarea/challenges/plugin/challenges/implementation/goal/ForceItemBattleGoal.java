@@ -1,14 +1,15 @@
 package net.codingarea.challenges.plugin.challenges.implementation.goal;
 
-import net.anweisen.utilities.bukkit.utils.item.ItemUtils;
 import net.anweisen.utilities.common.annotations.Since;
 import net.anweisen.utilities.common.config.Document;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.ForceBattleDisplayGoal;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.spigot.events.PlayerInventoryClickEvent;
 import net.codingarea.challenges.plugin.spigot.events.PlayerPickupItemEvent;
 import net.codingarea.challenges.plugin.utils.bukkit.misc.BukkitStringUtils;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.InventoryUtils;
 import org.bukkit.Material;
@@ -19,14 +20,13 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.1.3
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.1.3")
 public class ForceItemBattleGoal extends ForceBattleDisplayGoal<Material> {
 
@@ -41,10 +41,7 @@ public class ForceItemBattleGoal extends ForceBattleDisplayGoal<Material> {
 
 	@Override
 	protected Material[] getTargetsPossibleToFind() {
-		List<Material> materials = new ArrayList<>(Arrays.asList(Material.values()));
-		materials.removeIf(material -> !material.isItem());
-		materials.removeIf(material -> !ItemUtils.isObtainableInSurvival(material));
-		return materials.toArray(new Material[0]);
+		return Catalog.OBTAINABLE_ITEMS.toArray();
 	}
 
 	@Override
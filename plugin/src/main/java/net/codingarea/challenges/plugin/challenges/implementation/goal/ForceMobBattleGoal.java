@@ -4,8 +4,10 @@ import net.anweisen.utilities.common.annotations.Since;
 import net.anweisen.utilities.common.config.Document;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.ForceBattleGoal;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.utils.bukkit.misc.BukkitStringUtils;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.Utils;
 import org.bukkit.Material;
@@ -18,14 +20,13 @@ import org.bukkit.event.entity.EntityDeathEvent;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
  * @author sehrschlechtYT | https://github.com/sehrschlechtYT
  * @since 2.2.0
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.2.0")
 public class ForceMobBattleGoal extends ForceBattleGoal<EntityType> {
 
@@ -35,9 +36,7 @@ public class ForceMobBattleGoal extends ForceBattleGoal<EntityType> {
 
 	@Override
 	protected EntityType[] getTargetsPossibleToFind() {
-		List<EntityType> entityTypes = new ArrayList<>(Arrays.asList(EntityType.values()));
-		entityTypes.removeIf(entityType -> !entityType.isSpawnable());
-		entityTypes.removeIf(entityType -> !entityType.isAlive());
+		List<EntityType> entityTypes = Catalog.SPAWNABLE_LIVING_ENTITIES.toList();
 		Utils.removeEnums(entityTypes, "ILLUSIONER", "ARMOR_STAND", "ZOMBIE_HORSE", "GIANT");
 
 		return entityTypes.toArray(new EntityType[0]);
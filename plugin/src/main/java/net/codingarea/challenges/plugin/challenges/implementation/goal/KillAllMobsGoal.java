@@ -3,13 +3,14 @@ package net.codingarea.challenges.plugin.challenges.implementation.goal;
 import net.anweisen.utilities.common.annotations.Since;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.KillMobsGoal;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Material;
 import org.bukkit.entity.EntityType;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -17,6 +18,7 @@ import java.util.List;
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.1.3
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.1.3")
 public class KillAllMobsGoal extends KillMobsGoal {
 
@@ -26,8 +28,7 @@ public class KillAllMobsGoal extends KillMobsGoal {
 	}
 
 	static List<EntityType> getAllMobsToKill() {
-		LinkedList<EntityType> list = new LinkedList<>(Arrays.asList(EntityType.values()));
-		list.removeIf(type -> !type.isAlive());
+		LinkedList<EntityType> list = new LinkedList<>(Catalog.LIVING_ENTITIES.asList());
 		list.remove(EntityType.GIANT);
 		list.remove(EntityType.ILLUSIONER);
 		list.remove(EntityType.PLAYER);
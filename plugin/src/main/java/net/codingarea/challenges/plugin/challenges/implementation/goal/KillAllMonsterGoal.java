@@ -4,14 +4,15 @@ import net.anweisen.utilities.bukkit.utils.misc.MinecraftVersion;
 import net.anweisen.utilities.common.annotations.Since;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.KillMobsGoal;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.menu.generator.categorised.SettingCategory;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Material;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Monster;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -19,6 +20,7 @@ import java.util.List;
  * @author KxmischesDomi | https://github.com/kxmischesdomi
  * @since 2.1.3
  */
+@ListenOnlyWhenEnabled(requireStarted = true)
 @Since("2.1.3")
 public class KillAllMonsterGoal extends KillMobsGoal {
 
@@ -28,8 +30,7 @@ public class KillAllMonsterGoal extends KillMobsGoal {
 	}
 
 	static List<EntityType> getAllMobsToKill() {
-		LinkedList<EntityType> list = new LinkedList<>(Arrays.asList(EntityType.values()));
-		list.removeIf(type -> !type.isAlive());
+		LinkedList<EntityType> list = new LinkedList<>(Catalog.LIVING_ENTITIES.asList());
 		list.removeIf(type -> !Monster.class.isAssignableFrom(type.getEntityClass()));
 		list.add(EntityType.PHANTOM);
 		list.add(EntityType.ENDER_DRAGON);
@@ -9,6 +9,7 @@ import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeConfigHe
 import net.codingarea.challenges.plugin.challenges.type.helper.ChallengeHelper;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.content.Prefix;
+import net.codingarea.challenges.plugin.management.challenges.entities.SegmentedGamestateSaveable;
 import net.codingarea.challenges.plugin.management.menu.InventoryTitleManager;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
 import net.codingarea.challenges.plugin.utils.bukkit.command.PlayerCommand;
@@ -26,12 +27,13 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * @author anweisen | https://github.com/anweisen
  * @since 2.0
  */
-public class BackpackSetting extends SettingModifier implements PlayerCommand {
+public class BackpackSetting extends SettingModifier implements PlayerCommand, SegmentedGamestateSaveable {
 
 	public static final int SHARED = 1,
 			PLAYER = 2;
@@ -40,6 +42,11 @@ public class BackpackSetting extends SettingModifier implements PlayerCommand {
 	private final Map<UUID, Inventory> backpacks = new HashMap<>();
 	private final Inventory sharedBackpack;
 
+	/**
+	 * Whether a backpack was opened since the gamestate was last captured
+	 */
+	private volatile boolean opened = true;
+
 	public BackpackSetting() {
 		super(MenuType.SETTINGS, 1, 2, SHARED);
 		size = Math.max(Math.min(ChallengeConfigHelper.getSettingsDocument().getInt("backpack-size") * 9, 6 * 9), 9);
@@ -92,6 +99,7 @@ public class BackpackSetting extends SettingModifier implements PlayerCommand {
 		if (getValue() == SHARED || getValue() == PLAYER) {
 			Message.forName("backpack-opened").send(player, Prefix.BACKPACK, getValue() == SHARED ? "§5Team Backpack" : "§6Player Backpack");
 			player.openInventory(getCurrentBackpack(player));
+			opened = true;
 			SoundSample.OPEN.play(player);
 		} else {
 			Message.forName("backpacks-disabled").send(player, Prefix.BACKPACK);
@@ -102,6 +110,7 @@ public class BackpackSetting extends SettingModifier implements PlayerCommand {
 	@Override
 	public void loadGameState(@Nonnull Document document) {
 		super.loadGameState(document);
+		opened = true;
 
 		loadChecked(document, "shared", sharedBackpack);
 
@@ -156,6 +165,53 @@ public class BackpackSetting extends SettingModifier implements PlayerCommand {
 		document.set(key, BukkitSerialization.toBase64(inventory));
 	}
 
+	/**
+	 * Backpacks can only be changed while they are opened
+	 */
+	@Override
+	public boolean isGamestateDirty() {
+		return opened || isViewed();
+	}
+
+	@Override
+	public void markGamestateDirty() {
+		opened = true;
+	}
+
+	@Nonnull
+	@Override
+	public Consumer<Document> captureGameState() {
+		opened = isViewed(); // changes may still be made until the backpack is closed
+
+		ItemStack[] shared = copyContents(sharedBackpack);
+		Map<String, ItemStack[]> players = new HashMap<>();
+		backpacks.forEach((uuid, inventory) -> players.put(uuid.toString(), copyContents(inventory)));
+
+		return document -> {
+			document.set("shared", BukkitSerialization.contentsToBase64(shared));
+			Document playersDocument = document.getDocument("players");
+			players.forEach((uuid, contents) -> playersDocument.set(uuid, BukkitSerialization.contentsToBase64(contents)));
+		};
+	}
+
+	@Nonnull
+	protected ItemStack[] copyContents(@Nonnull Inventory inventory) {
+		ItemStack[] contents = new ItemStack[inventory.getSize()];
+		for (int i = 0; i < contents.length; i++) {
+			ItemStack item = inventory.getItem(i);
+			contents[i] = item == null ? null : item.clone();
+		}
+		return contents;
+	}
+
+	protected boolean isViewed() {
+		if (!sharedBackpack.getViewers().isEmpty()) return true;
+		for (Inventory inventory : backpacks.values()) {
+			if (!inventory.getViewers().isEmpty()) return true;
+		}
+		return false;
+	}
+
 	@Nonnull
 	protected Inventory createInventory(@Nonnull String title) {
 		return Bukkit.createInventory(null, size, InventoryTitleManager.getTitle(title));
@@ -24,7 +24,7 @@ public abstract class FirstPlayerAtHeightGoal extends SettingGoal {
 
 	@Override
 	protected void onEnable() {
-		bossbar.setContent((bar, player) -> {
+		bossbar.setSharedContent(bar -> {
 			bar.setTitle(Message.forName("bossbar-first-at-height-goal").asString(getHeightToGetTo()));
 		});
 		bossbar.show();
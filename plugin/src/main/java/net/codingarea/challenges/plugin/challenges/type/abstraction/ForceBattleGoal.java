@@ -1,6 +1,7 @@
 package net.codingarea.challenges.plugin.challenges.type.abstraction;
 
 import net.anweisen.utilities.bukkit.utils.animation.SoundSample;
+import net.anweisen.utilities.common.collection.IRandom;
 import net.anweisen.utilities.common.config.Document;
 import net.anweisen.utilities.common.config.document.GsonDocument;
 import net.codingarea.challenges.plugin.ChallengeAPI;
@@ -42,10 +43,53 @@ import java.util.stream.Collectors;
  */
 public abstract class ForceBattleGoal<T> extends MenuGoal {
 
+	/**
+	 * The targets a player did not find yet as indices into {@link #targetsPossibleToFind}.
+	 * The first {@code remaining} entries of {@code order} are remaining, a found target is swapped behind them,
+	 * so a random target can be drawn and removed in constant time.
+	 */
+	private static final class RemainingTargets {
+
+		private final int[] order;
+		private final int[] positions;
+		private int remaining;
+
+		private RemainingTargets(int size) {
+			order = new int[size];
+			positions = new int[size];
+			for (int i = 0; i < size; i++) {
+				order[i] = i;
+				positions[i] = i;
+			}
+			remaining = size;
+		}
+
+		private void remove(int index) {
+			int position = positions[index];
+			if (position >= remaining) return;
+
+			int last = order[--remaining];
+			order[position] = last;
+			positions[last] = position;
+			order[remaining] = index;
+			positions[index] = remaining;
+		}
+
+		/**
+		 * @return the index of a random remaining target or {@code -1} if there is none
+		 */
+		private int draw(@NotNull IRandom random) {
+			return remaining == 0 ? -1 : order[random.nextInt(remaining)];
+		}
+
+	}
+
 	protected final Map<UUID, Integer> jokerUsed = new HashMap<>();
 	protected final Map<UUID, List<T>> foundTargets = new HashMap<>();
 	protected final Map<UUID, T> currentTarget = new HashMap<>();
 	protected T[] targetsPossibleToFind;
+	private final Map<T, Integer> targetIndices = new HashMap<>();
+	private final Map<UUID, RemainingTargets> remainingTargets = new HashMap<>();
 	private ItemStack jokerItem;
 
 	public ForceBattleGoal(@NotNull MenuType menu, @NotNull Message title) {
@@ -76,6 +120,11 @@ public abstract class ForceBattleGoal<T> extends MenuGoal {
 		jokerItem = new ItemBuilder(Material.BARRIER, "§cJoker").build();
 
 		targetsPossibleToFind = getTargetsPossibleToFind();
+		targetIndices.clear();
+		remainingTargets.clear();
+		for (int i = 0; i < targetsPossibleToFind.length; i++) {
+			targetIndices.putIfAbsent(targetsPossibleToFind[i], i);
+		}
 
 		broadcastFiltered(this::updateJokersInInventory);
 		broadcastFiltered(this::setRandomTargetIfCurrentlyNone);
@@ -112,6 +161,8 @@ public abstract class ForceBattleGoal<T> extends MenuGoal {
 		jokerItem = null;
 		scoreboard.hide();
 		targetsPossibleToFind = null;
+		targetIndices.clear();
+		remainingTargets.clear();
 	}
 
 	protected abstract T[] getTargetsPossibleToFind();
@@ -156,6 +207,7 @@ public abstract class ForceBattleGoal<T> extends MenuGoal {
 		this.jokerUsed.clear();
 		this.currentTarget.clear();
 		this.foundTargets.clear();
+		this.remainingTargets.clear();
 
 		List<Document> players = document.getDocumentList("players");
 		for (Document player : players) {
@@ -166,7 +218,7 @@ public abstract class ForceBattleGoal<T> extends MenuGoal {
 			if (currentTarget != null) {
 				this.currentTarget.put(uuid, currentTarget);
 			}
-			List<T> foundItems = getListFromDocument(player, "foundTargets");
+			List<T> foundItems = new ArrayList<>(getListFromDocument(player, "foundTargets"));
 			this.foundTargets.put(uuid, foundItems);
 
 			int jokerUsed = player.getInt("jokerUsed");
@@ -184,7 +236,7 @@ public abstract class ForceBattleGoal<T> extends MenuGoal {
 
 	@Override
 	public void writeGameState(@NotNull Document document) {
-		List<Document> playersDocuments = new LinkedList<>();
+		List<Document> playersDocuments = new ArrayList<>(currentTarget.size());
 		for (Map.Entry<UUID, T> entry : currentTarget.entrySet()) {
 			List<T> foundItems = this.foundTargets.get(entry.getKey());
 			int jokerUsed = this.jokerUsed.getOrDefault(entry.getKey(), 0);
@@ -222,13 +274,15 @@ public abstract class ForceBattleGoal<T> extends MenuGoal {
 
 	public void setRandomTarget(Player player) {
 
-		LinkedList<T> list = new LinkedList<>(Arrays.asList(targetsPossibleToFind));
-		if (!getSetting("dupedTargets").getAsBoolean()) {
-			list.removeAll(foundTargets.getOrDefault(player.getUniqueId(), new LinkedList<>()));
+		T target = null;
+		if (getSetting("dupedTargets").getAsBoolean()) {
+			if (targetsPossibleToFind.length > 0) target = globalRandom.choose(targetsPossibleToFind);
+		} else {
+			int index = getRemainingTargets(player.getUniqueId()).draw(globalRandom);
+			if (index >= 0) target = targetsPossibleToFind[index];
 		}
 
-		if (!list.isEmpty()) {
-			T target = globalRandom.choose(list);
+		if (target != null) {
 			currentTarget.put(player.getUniqueId(), target);
 			getNewTargetMessage()
 					.send(player, Prefix.CHALLENGES, getTargetMessageReplacement(target));
@@ -241,6 +295,22 @@ public abstract class ForceBattleGoal<T> extends MenuGoal {
 
 	}
 
+	/**
+	 * The remaining targets are kept up to date when targets are found, even if duplicate targets are enabled,
+	 * so toggling the setting does not require a rebuild
+	 */
+	@NotNull
+	private RemainingTargets getRemainingTargets(@NotNull UUID uuid) {
+		return remainingTargets.computeIfAbsent(uuid, key -> {
+			RemainingTargets remaining = new RemainingTargets(targetsPossibleToFind.length);
+			for (T found : foundTargets.getOrDefault(uuid, Collections.emptyList())) {
+				Integer index = targetIndices.get(found);
+				if (index != null) remaining.remove(index);
+			}
+			return remaining;
+		});
+	}
+
 	protected abstract Message getNewTargetMessage();
 
 	protected abstract Message getTargetFoundMessage();
@@ -249,8 +319,12 @@ public abstract class ForceBattleGoal<T> extends MenuGoal {
 		T foundTarget = currentTarget.get(player.getUniqueId());
 		if (foundTarget != null) {
 			List<T> list = foundTargets
-					.computeIfAbsent(player.getUniqueId(), uuid -> new LinkedList<>());
+					.computeIfAbsent(player.getUniqueId(), uuid -> new ArrayList<>());
 			list.add(foundTarget);
+
+			RemainingTargets remaining = remainingTargets.get(player.getUniqueId());
+			Integer index = targetIndices.get(foundTarget);
+			if (remaining != null && index != null) remaining.remove(index);
 			getTargetFoundMessage().send(player, Prefix.CHALLENGES, getTargetMessageReplacement(foundTarget));
 		}
 		setRandomTarget(player);
@@ -45,7 +45,7 @@ public abstract class KillMobsGoal extends SettingGoal {
 
 	@Override
 	protected void onEnable() {
-		bossbar.setContent((bar, player) -> {
+		bossbar.setSharedContent(bar -> {
 			float i = 1 - ((float) getEntitiesLeftToKill().size() / (float) entitiesToKill.size());
 			bar.setProgress(i);
 			bar.setColor(BarColor.GREEN);
@@ -75,6 +75,7 @@ public abstract class Setting extends AbstractChallenge {
 	public void setEnabled(boolean enabled) {
 		if (this.enabled == enabled) return;
 		this.enabled = enabled;
+		Challenges.getInstance().getChallengeManager().handleStatusChange(this);
 
 		try {
 			if (enabled) onEnable();
@@ -1,13 +1,13 @@
 package net.codingarea.challenges.plugin.challenges.type.helper;
 
 import net.anweisen.utilities.bukkit.utils.item.ItemBuilder.PotionBuilder;
-import net.anweisen.utilities.bukkit.utils.misc.BukkitReflectionUtils;
 import net.anweisen.utilities.common.misc.StringUtils;
 import net.codingarea.challenges.plugin.challenges.custom.settings.sub.SubSettingsBuilder;
 import net.codingarea.challenges.plugin.challenges.custom.settings.sub.builder.ChooseItemSubSettingsBuilder;
 import net.codingarea.challenges.plugin.challenges.custom.settings.sub.builder.ChooseMultipleItemSubSettingBuilder;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.utils.bukkit.misc.BukkitStringUtils;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.DefaultItem;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Material;
@@ -38,8 +38,7 @@ public class SubSettingsHelper {
 			if (player) {
 				builder.addSetting("PLAYER", new ItemBuilder(Material.PLAYER_HEAD, Message.forName("item-custom-setting-entity_type-player")).build());
 			}
-			for (EntityType type : EntityType.values()) {
-				if (!type.isSpawnable() || !type.isAlive()) continue;
+			for (EntityType type : Catalog.SPAWNABLE_LIVING_ENTITIES.asList()) {
 				try {
 					Material spawnEgg = Material.valueOf(type.name() + "_SPAWN_EGG");
 					builder.addSetting(type.name(), new ItemBuilder(spawnEgg,
@@ -55,10 +54,8 @@ public class SubSettingsHelper {
 	public static ChooseMultipleItemSubSettingBuilder createBlockSettingsBuilder() {
 		return SubSettingsBuilder.createChooseMultipleItem(BLOCK).fill(builder -> {
 			builder.addSetting(ANY, new ItemBuilder(Material.NETHER_STAR, Message.forName("item-custom-setting-block-any")).build());
-			for (Material material : Material.values()) {
-				if (material.isBlock() && material.isItem() && !BukkitReflectionUtils.isAir(material)) {
-					builder.addSetting(material.name(), new ItemBuilder(material, DefaultItem.getItemPrefix() + BukkitStringUtils.getItemName(material).toPlainText()).build());
-				}
+			for (Material material : Catalog.BLOCK_ITEMS.asList()) {
+				builder.addSetting(material.name(), new ItemBuilder(material, DefaultItem.getItemPrefix() + BukkitStringUtils.getItemName(material).toPlainText()).build());
 			}
 		});
 	}
@@ -66,10 +63,8 @@ public class SubSettingsHelper {
 	public static ChooseMultipleItemSubSettingBuilder createItemSettingsBuilder() {
 		return SubSettingsBuilder.createChooseMultipleItem(ITEM).fill(builder -> {
 			builder.addSetting(ANY, new ItemBuilder(Material.NETHER_STAR, Message.forName("item-custom-setting-item-any")).build());
-			for (Material material : Material.values()) {
-				if (material.isItem() && !BukkitReflectionUtils.isAir(material)) {
-					builder.addSetting(material.name(), new ItemBuilder(material, DefaultItem.getItemPrefix() + BukkitStringUtils.getItemName(material).toPlainText()).build());
-				}
+			for (Material material : Catalog.NON_AIR_ITEMS.asList()) {
+				builder.addSetting(material.name(), new ItemBuilder(material, DefaultItem.getItemPrefix() + BukkitStringUtils.getItemName(material).toPlainText()).build());
 			}
 		});
 	}
@@ -11,6 +11,8 @@ import java.io.File;
  */
 public abstract class ContentLoader {
 
+	public static final String DEFAULT_CONTENT_URL = "https://raw.githubusercontent.com/anweisen/Challenges/";
+
 	@Nonnull
 	protected final File getMessagesFolder() {
 		return Challenges.getInstance().getDataFile("messages");
@@ -23,7 +25,9 @@ public abstract class ContentLoader {
 
 	@Nonnull
 	protected final String getGitHubUrl(@Nonnull String path) {
-		return "https://raw.githubusercontent.com/anweisen/Challenges/" + (Challenges.getInstance().isDevMode() ? "development" : "master") + "/" + path;
+		String baseUrl = Challenges.getInstance().getConfigDocument().getString("content-url", DEFAULT_CONTENT_URL);
+		if (!baseUrl.endsWith("/")) baseUrl += "/";
+		return baseUrl + (Challenges.getInstance().isDevMode() ? "development" : "master") + "/" + path;
 	}
 
 	protected abstract void load();
@@ -1,22 +1,35 @@
 package net.codingarea.challenges.plugin.content.loader;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import net.anweisen.utilities.bukkit.utils.logging.Logger;
-import net.anweisen.utilities.common.collection.IOUtils;
 import net.anweisen.utilities.common.config.Document;
+import net.anweisen.utilities.common.config.document.GsonDocument;
 import net.anweisen.utilities.common.misc.FileUtils;
 import net.anweisen.utilities.common.misc.GsonUtils;
 import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.utils.logging.ConsolePrint;
+import org.bukkit.Bukkit;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -27,6 +40,9 @@ public final class LanguageLoader extends ContentLoader {
 	public static final String DEFAULT_LANGUAGE = "en";
 	public static final String DIRECT_FILE_PATH = "direct-language-file";
 
+	private static final int TIMEOUT = 10 * 1000;
+	private static final int PARALLEL_DOWNLOADS = 4;
+
 	private static final JsonParser parser = new JsonParser();
 
 	private static volatile boolean loaded = false;
@@ -57,11 +73,36 @@ public final class LanguageLoader extends ContentLoader {
 	}
 
 	private void loadDefault() {
+		Document config = Challenges.getInstance().getConfigDocument();
+
+		// Load the local language without waiting for the download and apply the changes once they are downloaded
+		if (config.getBoolean("cached-language", true) && getMessageFile(config.getString("language", DEFAULT_LANGUAGE), "json").exists()) {
+			init();
+			read();
+			Challenges.getInstance().runAsync(this::refresh);
+			return;
+		}
+
 		download();
 		init();
 		read();
 	}
 
+	/**
+	 * Downloads the languages async and reloads the messages on the main thread if the selected language was updated
+	 */
+	private void refresh() {
+		Set<String> updated = download();
+		if (!updated.contains(language)) return;
+		if (!Challenges.getInstance().isEnabled()) return;
+
+		Bukkit.getScheduler().runTask(Challenges.getInstance(), () -> {
+			Logger.debug("Language '{}' was updated, reloading messages", language);
+			read();
+			Challenges.getInstance().getLoaderRegistry().handleContentUpdate(LanguageLoader.class);
+		});
+	}
+
 	private void init() {
 
 		language = Challenges.getInstance().getConfigDocument().getString("language", DEFAULT_LANGUAGE);
@@ -77,42 +118,160 @@ public final class LanguageLoader extends ContentLoader {
 
 	}
 
-	private void download() {
+	/**
+	 * Downloads the languages in parallel. Files are only downloaded if they changed since the last download,
+	 * using the ETag and Last-Modified headers stored in the cache file next to the languages.
+	 *
+	 * @return the names of the languages whose files were changed
+	 */
+	@Nonnull
+	private Set<String> download() {
+		Set<String> updated = ConcurrentHashMap.newKeySet();
+		File cacheFile = getMessageFile("languages", "cache");
+		Document cache;
+		try {
+			cache = Document.readJsonFile(cacheFile);
+		} catch (Exception ex) {
+			Logger.error("Could not read language cache", ex);
+			return updated;
+		}
+
 		try {
 
-			JsonArray languages = parser.parse(IOUtils.toString(getGitHubUrl("language/languages.json"))).getAsJsonArray();
-			Logger.debug("Fetched languages {}", languages);
-			for (JsonElement element : languages) {
-				try {
-					String name = element.getAsString();
-					String url = getGitHubUrl("language/files/" + name + ".json");
-
-					Document language = Document.parseJson(IOUtils.toString(url));
-					File file = getMessageFile(name, "json");
-
-					Logger.debug("Writing language {} to {}", name, file);
-					verifyLanguage(language, file, name);
-				} catch (Exception exception) {
-					Challenges.getInstance().getLogger().error("", exception);
-					Logger.error("Could not download language for {}. {}: {}", element, exception.getClass().getSimpleName(), exception.getMessage());
+			Document languagesCache = cache.getDocument("languages");
+			List<String> cachedNames = languagesCache.getStringList("names");
+			Document validators = new GsonDocument();
+			String response = fetch("language/languages.json", languagesCache, validators, !cachedNames.isEmpty());
+
+			List<String> names = new ArrayList<>();
+			if (response == null) {
+				names.addAll(cachedNames);
+			} else {
+				for (JsonElement element : parser.parse(response).getAsJsonArray()) {
+					names.add(element.getAsString());
 				}
+				languagesCache.set("names", names);
+				applyValidators(languagesCache, validators);
+			}
+			Logger.debug("Fetched languages {}", names);
+			if (names.isEmpty()) return updated;
+
+			// Create the cache entries before downloading, so the downloads only access their own entry
+			Document filesCache = cache.getDocument("files");
+			List<CompletableFuture<Void>> downloads = new ArrayList<>(names.size());
+			ExecutorService executor = Executors.newFixedThreadPool(Math.min(names.size(), PARALLEL_DOWNLOADS));
+			for (String name : names) {
+				Document entry = filesCache.getDocument(name);
+				downloads.add(CompletableFuture.runAsync(() -> downloadLanguage(name, entry, updated), executor));
+			}
+
+			try {
+				CompletableFuture.allOf(downloads.toArray(new CompletableFuture[0])).join();
+			} finally {
+				executor.shutdown();
 			}
 
+			cache.saveToFile(cacheFile);
+
 		} catch (Exception ex) {
 			Logger.error("Could not download languages", ex);
 		}
+
+		return updated;
+	}
+
+	private void downloadLanguage(@Nonnull String name, @Nonnull Document cache, @Nonnull Set<String> updated) {
+		try {
+			File file = getMessageFile(name, "json");
+			Document validators = new GsonDocument();
+			String response = fetch("language/files/" + name + ".json", cache, validators, file.exists());
+			if (response == null) {
+				Logger.debug("Language {} is up to date", name);
+				return;
+			}
+
+			Logger.debug("Writing language {} to {}", name, file);
+			if (verifyLanguage(Document.parseJson(response), file, name))
+				updated.add(name);
+
+			// Only remember the version once it was written, otherwise a broken download would never be fetched again
+			applyValidators(cache, validators);
+		} catch (Exception exception) {
+			Challenges.getInstance().getLogger().error("", exception);
+			Logger.error("Could not download language for {}. {}: {}", name, exception.getClass().getSimpleName(), exception.getMessage());
+		}
+	}
+
+	/**
+	 * @param cache the cache entry of the file, storing the validators of the last download
+	 * @param validators the document the validators of this download are stored in, they have to be applied to the cache once the content was processed
+	 * @param conditional whether the file should only be downloaded if it was modified since the last download
+	 * @return the content of the file or {@code null} if it was not modified since the last download
+	 */
+	@Nullable
+	private String fetch(@Nonnull String path, @Nonnull Document cache, @Nonnull Document validators, boolean conditional) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL(getGitHubUrl(path)).openConnection();
+		connection.setConnectTimeout(TIMEOUT);
+		connection.setReadTimeout(TIMEOUT);
+
+		if (conditional) {
+			String etag = cache.getString("etag");
+			String lastModified = cache.getString("last-modified");
+			if (etag != null) connection.setRequestProperty("If-None-Match", etag);
+			if (lastModified != null) connection.setRequestProperty("If-Modified-Since", lastModified);
+		}
+
+		try {
+			int status = connection.getResponseCode();
+			if (status == HttpURLConnection.HTTP_NOT_MODIFIED && conditional) return null;
+			if (status != HttpURLConnection.HTTP_OK) throw new IOException("Unexpected response code " + status + " for " + path);
+
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			try (InputStream input = connection.getInputStream()) {
+				byte[] buffer = new byte[8192];
+				int read;
+				while ((read = input.read(buffer)) != -1) {
+					output.write(buffer, 0, read);
+				}
+			}
+
+			setOrRemove(validators, "etag", connection.getHeaderField("ETag"));
+			setOrRemove(validators, "last-modified", connection.getHeaderField("Last-Modified"));
+			return new String(output.toByteArray(), StandardCharsets.UTF_8);
+		} finally {
+			connection.disconnect();
+		}
+	}
+
+	private void setOrRemove(@Nonnull Document document, @Nonnull String key, @Nullable String value) {
+		if (value == null) document.remove(key);
+		else document.set(key, value);
+	}
+
+	private void applyValidators(@Nonnull Document cache, @Nonnull Document validators) {
+		setOrRemove(cache, "etag", validators.getString("etag"));
+		setOrRemove(cache, "last-modified", validators.getString("last-modified"));
 	}
 
-	private void verifyLanguage(@Nonnull Document download, @Nonnull File file, @Nonnull String name) throws IOException {
+	/**
+	 * Adds the messages missing in the existing file
+	 *
+	 * @return whether the file was changed
+	 */
+	private boolean verifyLanguage(@Nonnull Document download, @Nonnull File file, @Nonnull String name) throws IOException {
+		boolean created = !file.exists();
 		Document existing = Document.readJsonFile(file);
 		FileUtils.createFilesIfNecessary(file);
+		boolean[] changed = { created };
 		download.forEach((key, value) -> {
 			if (!existing.contains(key)) {
 				Logger.debug("Overwriting message {} in {} with {}", key, name, String.valueOf(value).replace("\"", "§r\""));
 				existing.set(key, value);
+				changed[0] = true;
 			}
 		});
-		existing.saveToFile(file);
+		if (changed[0]) existing.saveToFile(file);
+		return changed[0];
 	}
 
 	private void read() {
@@ -60,6 +60,19 @@ public final class LoaderRegistry {
 		}
 	}
 
+	/**
+	 * Executes the subscribers of a loader again after it updated its content in the background
+	 */
+	void handleContentUpdate(@Nonnull Class<? extends ContentLoader> classOfLoader) {
+		Logger.debug("{} updated its content", classOfLoader.getSimpleName());
+
+		if (Challenges.getInstance().isEnabled()) {
+			Subscribers subscribers = this.subscribers.get(classOfLoader);
+			if (subscribers == null) return;
+			subscribers.execute();
+		}
+	}
+
 	public void enable() {
 		for (Subscribers subscribers : subscribers.values()) {
 			if (subscribers.executed) continue;
@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 public final class BlockDropManager {
 
 	private final Map<Material, RegisteredDrops> drops = new HashMap<>();
+	private final Map<Material, Set<Material>> blocksByDrop = new EnumMap<>(Material.class);
 	private final Map<Material, RegisteredChance> chance = new HashMap<>();
 	private SubSetting directInventorySetting;
 
@@ -58,7 +59,9 @@ public final class BlockDropManager {
 		Logger.debug("Setting block drop for {} to {} at priority {}", block, items, priority);
 
 		RegisteredDrops option = this.drops.computeIfAbsent(block, key -> new RegisteredDrops());
+		List<Material> previous = option.getFirst().orElse(Collections.emptyList());
 		option.setOption(priority, items);
+		updateDropIndex(block, previous, option.getFirst().orElse(Collections.emptyList()));
 	}
 
 	public void resetCustomDrop(@Nonnull Material block, byte priority) {
@@ -67,7 +70,9 @@ public final class BlockDropManager {
 		RegisteredDrops option = drops.get(block);
 		if (option == null) return;
 
+		List<Material> previous = option.getFirst().orElse(Collections.emptyList());
 		option.resetOption(priority);
+		updateDropIndex(block, previous, option.getFirst().orElse(Collections.emptyList()));
 		if (option.isEmpty()) drops.remove(block);
 	}
 
@@ -78,13 +83,32 @@ public final class BlockDropManager {
 		for (Entry<Material, RegisteredDrops> entry : drops.entrySet()) {
 
 			RegisteredDrops option = entry.getValue();
+			List<Material> previous = option.getFirst().orElse(Collections.emptyList());
 			option.resetOption(priority);
+			updateDropIndex(entry.getKey(), previous, option.getFirst().orElse(Collections.emptyList()));
 			if (option.isEmpty()) remove.add(entry.getKey());
 		}
 
 		remove.forEach(drops::remove);
 	}
 
+	/**
+	 * Moves the block from the index entries of its previous drops to the entries of its current drops
+	 */
+	private void updateDropIndex(@Nonnull Material block, @Nonnull List<Material> previous, @Nonnull List<Material> current) {
+		if (previous.equals(current)) return;
+
+		for (Material item : previous) {
+			Set<Material> blocks = blocksByDrop.get(item);
+			if (blocks == null) continue;
+			blocks.remove(block);
+			if (blocks.isEmpty()) blocksByDrop.remove(item);
+		}
+		for (Material item : current) {
+			blocksByDrop.computeIfAbsent(item, key -> EnumSet.noneOf(Material.class)).add(block);
+		}
+	}
+
 	@Nonnull
 	public BooleanSupplier getDropChance(@Nonnull Material block) {
 		RegisteredChance option = chance.get(block);
@@ -110,7 +134,7 @@ public final class BlockDropManager {
 			if (option.isEmpty()) remove.add(entry.getKey());
 		}
 
-		remove.forEach(drops::remove);
+		remove.forEach(chance::remove);
 	}
 
 	@Nonnull
@@ -118,6 +142,16 @@ public final class BlockDropManager {
 		return Collections.unmodifiableMap(drops);
 	}
 
+	/**
+	 * @return the blocks whose current custom drops contain the given item
+	 */
+	@Nonnull
+	public Set<Material> getBlocksDropping(@Nonnull Material item) {
+		Set<Material> blocks = blocksByDrop.get(item);
+		if (blocks == null) return Collections.emptySet();
+		return Collections.unmodifiableSet(blocks);
+	}
+
 	public boolean isItemsDirectIntoInventory() {
 		if (directInventorySetting == null)
 			directInventorySetting = AbstractChallenge.getFirstInstance(CutCleanSetting.class).getSetting("items->inventory");
@@ -149,7 +183,8 @@ public final class BlockDropManager {
 
 		@Nonnull
 		public Optional<T> getFirst() {
-			return optionByPriority.values().stream().findFirst();
+			if (optionByPriority.isEmpty()) return Optional.empty();
+			return Optional.of(optionByPriority.get(optionByPriority.firstKey()));
 		}
 
 		public boolean isEmpty() {
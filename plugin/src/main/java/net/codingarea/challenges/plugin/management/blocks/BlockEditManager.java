@@ -0,0 +1,220 @@
+package net.codingarea.challenges.plugin.management.blocks;
+
+import net.anweisen.utilities.bukkit.utils.logging.Logger;
+import net.codingarea.challenges.plugin.Challenges;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.scheduler.BukkitTask;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.*;
+
+/**
+ * Collects block edits of challenges grouped by chunk section and applies them within a budget per tick,
+ * so challenges changing hundreds of blocks at once don't cause lag spikes.
+ * Multiple edits of the same block are merged, the last edit wins.
+ *
+ * All methods have to be called on the primary thread.
+ *
+ * @since 2.2.3
+ */
+public final class BlockEditManager {
+
+	/**
+	 * The edits of one chunk section, stored in a small open addressing map from the block index inside the section
+	 * to its data. Most challenges only edit a few blocks per section, so no dense arrays are allocated.
+	 */
+	private static final class EditSection {
+
+		private static final short EMPTY = -1;
+		private static final int INITIAL_CAPACITY = 16;
+
+		private final World world;
+		private final int chunkX, chunkZ, sectionY;
+
+		private short[] keys = newKeys(INITIAL_CAPACITY);
+		private BlockData[] values = new BlockData[INITIAL_CAPACITY];
+		private boolean[] physics = new boolean[INITIAL_CAPACITY];
+		private int used, pending;
+
+		private EditSection(@Nonnull World world, int chunkX, int chunkZ, int sectionY) {
+			this.world = world;
+			this.chunkX = chunkX;
+			this.chunkZ = chunkZ;
+			this.sectionY = sectionY;
+		}
+
+		private boolean put(int x, int y, int z, @Nonnull BlockData blockData, boolean applyPhysics) {
+			short index = (short) ((y & 0xF) << 8 | (z & 0xF) << 4 | (x & 0xF));
+			if ((used + 1) * 4 > keys.length * 3) rehash();
+
+			int slot = find(keys, index);
+			if (keys[slot] == EMPTY) {
+				keys[slot] = index;
+				used++;
+			}
+
+			boolean added = values[slot] == null;
+			if (added) pending++;
+			values[slot] = blockData;
+			physics[slot] = applyPhysics;
+			return added;
+		}
+
+		/**
+		 * @return the amount of applied edits
+		 */
+		private int apply(int limit) {
+			int applied = 0;
+			for (int slot = 0; slot < keys.length && applied < limit; slot++) {
+				BlockData blockData = values[slot];
+				if (blockData == null) continue;
+
+				int index = keys[slot];
+				Block block = world.getBlockAt(chunkX << 4 | (index & 0xF), sectionY << 4 | (index >> 8), chunkZ << 4 | (index >> 4 & 0xF));
+				try {
+					block.setBlockData(blockData, physics[slot]);
+				} catch (Exception ex) {
+					Logger.error("Could not apply block edit at {}", block, ex);
+				}
+				values[slot] = null;
+				pending--;
+				applied++;
+			}
+			return applied;
+		}
+
+		private boolean isEmpty() {
+			return pending == 0;
+		}
+
+		/**
+		 * Rebuilds the map with only the pending edits, growing it if required
+		 */
+		private void rehash() {
+			int capacity = INITIAL_CAPACITY;
+			while (capacity * 3 < (pending + 1) * 4 * 2) capacity <<= 1;
+
+			short[] keys = newKeys(capacity);
+			BlockData[] values = new BlockData[capacity];
+			boolean[] physics = new boolean[capacity];
+			for (int slot = 0; slot < this.keys.length; slot++) {
+				if (this.values[slot] == null) continue;
+				int target = find(keys, this.keys[slot]);
+				keys[target] = this.keys[slot];
+				values[target] = this.values[slot];
+				physics[target] = this.physics[slot];
+			}
+
+			this.keys = keys;
+			this.values = values;
+			this.physics = physics;
+			this.used = pending;
+		}
+
+		private static int find(@Nonnull short[] keys, short index) {
+			int mask = keys.length - 1;
+			int slot = (index * 0x9E3779B1 >>> 16) & mask;
+			while (keys[slot] != EMPTY && keys[slot] != index) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		@Nonnull
+		private static short[] newKeys(int capacity) {
+			short[] keys = new short[capacity];
+			Arrays.fill(keys, EMPTY);
+			return keys;
+		}
+
+	}
+
+	private final Map<World, Map<Long, EditSection>> sections = new HashMap<>();
+	private final Deque<EditSection> order = new ArrayDeque<>();
+	private final int editsPerTick;
+
+	private BukkitTask task;
+	private int pendingEdits;
+
+	public BlockEditManager() {
+		editsPerTick = Math.max(1, Challenges.getInstance().getConfigDocument().getInt("block-edits.per-tick", 2048));
+	}
+
+	public void setType(@Nonnull Block block, @Nonnull Material type, boolean applyPhysics) {
+		setBlockData(block, type.createBlockData(), applyPhysics);
+	}
+
+	public void setBlockData(@Nonnull Block block, @Nonnull BlockData data, boolean applyPhysics) {
+		setBlockData(block.getWorld(), block.getX(), block.getY(), block.getZ(), data, applyPhysics);
+	}
+
+	public void setBlockData(@Nonnull World world, int x, int y, int z, @Nonnull BlockData data, boolean applyPhysics) {
+		int chunkX = x >> 4, chunkZ = z >> 4, sectionY = y >> 4;
+		EditSection section = sections.computeIfAbsent(world, key -> new HashMap<>())
+				.computeIfAbsent(getSectionKey(chunkX, chunkZ, sectionY), key -> {
+					EditSection created = new EditSection(world, chunkX, chunkZ, sectionY);
+					order.add(created);
+					return created;
+				});
+
+		if (section.put(x, y, z, data, applyPhysics)) pendingEdits++;
+		if (task == null) task = Bukkit.getScheduler().runTaskTimer(Challenges.getInstance(), this::applyEdits, 1, 1);
+	}
+
+	/**
+	 * Applies queued edits until the budget of this tick is used up.
+	 * Sections are applied in the order they were first edited.
+	 */
+	private void applyEdits() {
+		applyEdits(editsPerTick);
+		if (order.isEmpty() && task != null) {
+			task.cancel();
+			task = null;
+		}
+	}
+
+	private void applyEdits(int budget) {
+		while (budget > 0 && !order.isEmpty()) {
+			EditSection section = order.peek();
+			int applied = section.apply(budget);
+			budget -= applied;
+			pendingEdits -= applied;
+
+			if (section.isEmpty()) {
+				order.poll();
+				Map<Long, EditSection> worldSections = sections.get(section.world);
+				worldSections.remove(getSectionKey(section.chunkX, section.chunkZ, section.sectionY));
+				if (worldSections.isEmpty()) sections.remove(section.world);
+			}
+		}
+	}
+
+	/**
+	 * @param apply whether the remaining edits should be applied now or be discarded
+	 */
+	public void disable(boolean apply) {
+		if (task != null) {
+			task.cancel();
+			task = null;
+		}
+		if (apply) applyEdits(Integer.MAX_VALUE);
+		sections.clear();
+		order.clear();
+		pendingEdits = 0;
+	}
+
+	@Nonnegative
+	public int getPendingEdits() {
+		return pendingEdits;
+	}
+
+	private static long getSectionKey(int chunkX, int chunkZ, int sectionY) {
+		return ((long) chunkX & 0x3FFFFFFL) << 38 | ((long) chunkZ & 0x3FFFFFFL) << 12 | (sectionY & 0xFFFL);
+	}
+
+}
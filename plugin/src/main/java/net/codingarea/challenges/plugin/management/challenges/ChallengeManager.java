@@ -1,25 +1,36 @@
 package net.codingarea.challenges.plugin.management.challenges;
 
+import net.anweisen.utilities.bukkit.core.BukkitModule;
 import net.anweisen.utilities.bukkit.utils.logging.Logger;
 import net.anweisen.utilities.common.config.Document;
 import net.anweisen.utilities.common.config.FileDocument;
 import net.anweisen.utilities.common.config.document.GsonDocument;
 import net.anweisen.utilities.common.config.document.wrapper.FileDocumentWrapper;
 import net.anweisen.utilities.database.exceptions.DatabaseException;
+import net.codingarea.challenges.plugin.ChallengeAPI;
 import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.challenges.custom.CustomChallenge;
 import net.codingarea.challenges.plugin.challenges.type.IChallenge;
 import net.codingarea.challenges.plugin.challenges.type.IGoal;
 import net.codingarea.challenges.plugin.challenges.type.abstraction.AbstractChallenge;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.challenges.entities.GamestateSaveable;
+import net.codingarea.challenges.plugin.management.challenges.entities.SegmentedGamestateSaveable;
+import net.codingarea.challenges.plugin.management.files.GamestateStorage;
+import net.codingarea.challenges.plugin.management.scheduler.policy.ChallengeStatusPolicy;
+import net.codingarea.challenges.plugin.management.scheduler.policy.ExtraWorldPolicy;
+import net.codingarea.challenges.plugin.management.scheduler.policy.PlayerCountPolicy;
+import net.codingarea.challenges.plugin.management.scheduler.task.TimerTask;
+import net.codingarea.challenges.plugin.management.scheduler.timer.TimerStatus;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -31,8 +42,17 @@ public final class ChallengeManager {
 	private final List<IChallenge> challenges = new LinkedList<>();
 	private final List<GamestateSaveable> additionalSaver = new LinkedList<>();
 
+	private final Map<IChallenge, BukkitModule> dynamicListeners = new HashMap<>();
+	private final Set<IChallenge> registeredListeners = new HashSet<>();
+
+	private final GamestateStorage gamestateStorage = new GamestateStorage();
+
 	private IGoal currentGoal;
 
+	public ChallengeManager() {
+		Challenges.getInstance().getScheduler().register(this);
+	}
+
 	@Nonnull
 	public List<IChallenge> getChallenges() {
 		return Collections.unmodifiableList(challenges);
@@ -49,6 +69,60 @@ public final class ChallengeManager {
 
 	public void unregister(@Nonnull IChallenge challenge) {
 		challenges.remove(challenge);
+		dynamicListeners.remove(challenge);
+		registeredListeners.remove(challenge);
+	}
+
+	/**
+	 * Registers the listener of the challenge if it should listen to events in its current state.
+	 * The registration is updated by {@link #updateListener(IChallenge)}.
+	 *
+	 * @see ListenOnlyWhenEnabled
+	 */
+	public void registerDynamicListener(@Nonnull IChallenge challenge, @Nonnull BukkitModule module) {
+		if (!(challenge instanceof Listener)) throw new IllegalArgumentException(challenge.getClass().getSimpleName() + " is not a listener");
+		dynamicListeners.put(challenge, module);
+		updateListener(challenge);
+	}
+
+	/**
+	 * Has to be called whenever the challenge is enabled or disabled.
+	 * Updates the listener registration and the scheduled functions of the challenge.
+	 *
+	 * @see #updateListener(IChallenge)
+	 * @see net.codingarea.challenges.plugin.management.scheduler.ScheduleManager#updateStatus(Object)
+	 */
+	public void handleStatusChange(@Nonnull IChallenge challenge) {
+		updateListener(challenge);
+		Challenges.getInstance().getScheduler().updateStatus(challenge);
+	}
+
+	/**
+	 * Registers or unregisters the listener of the challenge if it is {@link ListenOnlyWhenEnabled dynamic}.
+	 */
+	public void updateListener(@Nonnull IChallenge challenge) {
+		BukkitModule module = dynamicListeners.get(challenge);
+		if (module == null) return;
+
+		ListenOnlyWhenEnabled annotation = challenge.getClass().getAnnotation(ListenOnlyWhenEnabled.class);
+		boolean listen = challenge.isEnabled() && (annotation == null || !annotation.requireStarted() || ChallengeAPI.isStarted());
+		if (listen == registeredListeners.contains(challenge)) return;
+
+		if (listen) {
+			registeredListeners.add(challenge);
+			module.registerListener((Listener) challenge);
+		} else {
+			registeredListeners.remove(challenge);
+			HandlerList.unregisterAll((Listener) challenge);
+		}
+	}
+
+	@TimerTask(status = { TimerStatus.RUNNING, TimerStatus.PAUSED }, async = false, challengePolicy = ChallengeStatusPolicy.ALWAYS,
+			playerPolicy = PlayerCountPolicy.ALWAYS, worldPolicy = ExtraWorldPolicy.ALWAYS)
+	public void updateListeners() {
+		for (IChallenge challenge : new ArrayList<>(dynamicListeners.keySet())) {
+			updateListener(challenge);
+		}
 	}
 
 	public void unregisterIf(@Nonnull Predicate<IChallenge> predicate) {
@@ -106,6 +180,14 @@ public final class ChallengeManager {
 		loadGamestate(Challenges.getInstance().getConfigManager().getGameStateConfig().readonly());
 		loadSettings(Challenges.getInstance().getConfigManager().getSettingsConfig().readonly());
 		loadCustomChallenges(Challenges.getInstance().getConfigManager().getCustomChallengesConfig().readonly());
+
+		int autosaveInterval = Challenges.getInstance().getConfigDocument().getInt("gamestate.autosave-interval", 300) * 20;
+		if (autosaveInterval > 0) {
+			Bukkit.getScheduler().runTaskTimer(Challenges.getInstance(), () -> {
+				if (Challenges.getInstance().getWorldManager().isShutdownBecauseOfReset()) return;
+				saveGamestate(true);
+			}, autosaveInterval, autosaveInterval);
+		}
 	}
 
 	public synchronized void loadSettings(@Nonnull Document config) {
@@ -129,9 +211,13 @@ public final class ChallengeManager {
 		list.addAll(additionalSaver);
 		for (GamestateSaveable challenge : list) {
 			String name = challenge.getUniqueGamestateName();
-			if (!config.contains(name)) continue;
 			try {
-				Document document = config.getDocument(name);
+				// Segments fall back to the gamestate file, where they were stored before 2.2.3
+				Document document = challenge instanceof SegmentedGamestateSaveable ? gamestateStorage.readSegment(name) : null;
+				if (document == null) {
+					if (!config.contains(name)) continue;
+					document = config.getDocument(name);
+				}
 				challenge.loadGameState(document);
 
 				if (challenge instanceof AbstractChallenge) {
@@ -189,10 +275,40 @@ public final class ChallengeManager {
 		}
 	}
 
+	/**
+	 * Captures the gamestate on the primary thread and writes it using the {@link GamestateStorage}.
+	 * {@link SegmentedGamestateSaveable Segmented} gamestates are only captured if they changed,
+	 * the gamestate file is only written if its content changed.
+	 * The gamestate file is serialized on the primary thread, because challenges also change its
+	 * document directly (see {@link AbstractChallenge#getGameStateData()}) and it can't be copied cheaper than serialized.
+	 */
 	public synchronized void saveGamestate(boolean async) {
 		FileDocument config = Challenges.getInstance().getConfigManager().getGameStateConfig();
-		saveGameStateInto(config);
-		config.save(async);
+		Map<String, Consumer<Document>> segments = new LinkedHashMap<>();
+		Map<String, SegmentedGamestateSaveable> captured = new HashMap<>();
+
+		LinkedList<GamestateSaveable> list = new LinkedList<>(challenges);
+		list.addAll(additionalSaver);
+		for (GamestateSaveable challenge : list) {
+			String name = challenge.getUniqueGamestateName();
+			try {
+				if (challenge instanceof SegmentedGamestateSaveable) {
+					SegmentedGamestateSaveable segmented = (SegmentedGamestateSaveable) challenge;
+					// The gamestate stored before 2.2.3 is kept until the segment was written
+					if (gamestateStorage.hasSegment(name)) config.remove(name);
+					if (segmented.isGamestateDirty()) {
+						segments.put(name, segmented.captureGameState());
+						captured.put(name, segmented);
+					}
+				} else {
+					challenge.writeGameState(config.getDocument(name));
+				}
+			} catch (Exception ex) {
+				Logger.error("Could not write gamestate of {}", challenge.getClass().getSimpleName(), ex);
+			}
+		}
+
+		gamestateStorage.save(config.toJson(), segments, name -> captured.get(name).markGamestateDirty(), async);
 	}
 
 	public void saveSettingsInto(@Nonnull Document config) {
@@ -235,6 +351,11 @@ public final class ChallengeManager {
 	}
 
 
+	@Nonnull
+	public GamestateStorage getGamestateStorage() {
+		return gamestateStorage;
+	}
+
 	@Nullable
 	public IGoal getCurrentGoal() {
 		return currentGoal;
@@ -22,8 +22,16 @@ import java.util.*;
  */
 public class CustomChallengesLoader extends ModuleChallengeLoader {
 
+	private static final CustomChallenge[] NO_SUBSCRIBERS = new CustomChallenge[0];
+
 	private final Map<UUID, CustomChallenge> customChallenges = new LinkedHashMap<>();
 
+	/**
+	 * The enabled challenges indexed by their trigger.
+	 * The map is replaced as a whole on every change, so it can be read from any thread.
+	 */
+	private volatile Map<IChallengeTrigger, CustomChallenge[]> subscribers = Collections.emptyMap();
+
 	private final int maxNameLength;
 
 	public CustomChallengesLoader() {
@@ -40,6 +48,7 @@ public class CustomChallengesLoader extends ModuleChallengeLoader {
 		} else {
 			challenge.applySettings(material, name, trigger, subTriggers, action, subActions);
 		}
+		updateSubscribers();
 		generateCustomChallenge(challenge, false, generate);
 		return challenge;
 	}
@@ -48,6 +57,7 @@ public class CustomChallengesLoader extends ModuleChallengeLoader {
 		CustomChallenge challenge = customChallenges.remove(uuid);
 		if (challenge == null) return;
 		Challenges.getInstance().getChallengeLoader().unregister(challenge);
+		updateSubscribers();
 		generateCustomChallenge(challenge, true, true);
 	}
 
@@ -78,6 +88,7 @@ public class CustomChallengesLoader extends ModuleChallengeLoader {
 
 		}
 
+		updateSubscribers();
 		MenuType.CUSTOM.getMenuGenerator().generateInventories();
 	}
 
@@ -85,6 +96,38 @@ public class CustomChallengesLoader extends ModuleChallengeLoader {
 		customChallenges.clear();
 		Challenges.getInstance().getChallengeManager().unregisterIf(iChallenge -> iChallenge.getType() == MenuType.CUSTOM);
 		((ChallengeMenuGenerator) MenuType.CUSTOM.getMenuGenerator()).resetChallengeCache();
+		updateSubscribers();
+	}
+
+	/**
+	 * Rebuilds the trigger index from the enabled custom challenges.
+	 * Has to be called whenever a challenge is registered, unregistered, enabled, disabled or its trigger changes.
+	 * Triggers without any subscribers do not listen to their events.
+	 */
+	public void updateSubscribers() {
+		Map<IChallengeTrigger, List<CustomChallenge>> grouped = new HashMap<>();
+		for (CustomChallenge challenge : customChallenges.values()) {
+			if (challenge.getTrigger() == null || !challenge.isEnabled()) continue;
+			grouped.computeIfAbsent(challenge.getTrigger(), key -> new ArrayList<>()).add(challenge);
+		}
+
+		Map<IChallengeTrigger, CustomChallenge[]> subscribers = new HashMap<>();
+		grouped.forEach((trigger, challenges) -> subscribers.put(trigger, challenges.toArray(new CustomChallenge[0])));
+		this.subscribers = Collections.unmodifiableMap(subscribers);
+
+		Challenges.getInstance().getCustomSettingsLoader().updateTriggerListeners();
+	}
+
+	/**
+	 * @return the enabled challenges using the given trigger, the returned array must not be modified
+	 */
+	@Nonnull
+	public CustomChallenge[] getSubscribers(@Nonnull IChallengeTrigger trigger) {
+		return subscribers.getOrDefault(trigger, NO_SUBSCRIBERS);
+	}
+
+	public boolean hasSubscribers(@Nonnull IChallengeTrigger trigger) {
+		return subscribers.containsKey(trigger);
 	}
 
 	private void generateCustomChallenge(CustomChallenge challenge, boolean deleted, boolean generate) {
@@ -119,9 +162,9 @@ public class CustomChallengesLoader extends ModuleChallengeLoader {
 	}
 
 	public void executeTrigger(@Nonnull ChallengeExecutionData challengeExecutionData) {
-		getCustomChallengesByTrigger(challengeExecutionData.getTrigger())
-				.forEach(customChallenge -> customChallenge
-						.onTriggerFulfilled(challengeExecutionData));
+		for (CustomChallenge challenge : getSubscribers(challengeExecutionData.getTrigger())) {
+			challenge.onTriggerFulfilled(challengeExecutionData);
+		}
 	}
 
 	public int getMaxNameLength() {
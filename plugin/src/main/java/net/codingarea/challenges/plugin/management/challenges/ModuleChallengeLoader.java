@@ -7,6 +7,9 @@ import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.challenges.implementation.damage.DamageRuleSetting;
 import net.codingarea.challenges.plugin.challenges.implementation.material.BlockMaterialSetting;
 import net.codingarea.challenges.plugin.challenges.type.IChallenge;
+import net.codingarea.challenges.plugin.challenges.type.abstraction.Setting;
+import net.codingarea.challenges.plugin.challenges.type.abstraction.SettingModifier;
+import net.codingarea.challenges.plugin.management.challenges.annotations.ListenOnlyWhenEnabled;
 import net.codingarea.challenges.plugin.management.challenges.annotations.RequireVersion;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Material;
@@ -36,12 +39,20 @@ public class ModuleChallengeLoader {
 
 			Challenges.getInstance().getChallengeManager().register(challenge);
 			Challenges.getInstance().getScheduler().register(challenge);
+			if (challenge instanceof Setting || challenge instanceof SettingModifier) {
+				// Only these report their status changes, functions of other challenges have to stay active
+				Challenges.getInstance().getScheduler().updateStatus(challenge);
+			}
 
 			if (challenge instanceof CommandExecutor) {
 				plugin.registerCommand((CommandExecutor) challenge, commandNames);
 			}
 			if (challenge instanceof Listener) {
-				plugin.registerListener((Listener) challenge);
+				if (challenge.getClass().isAnnotationPresent(ListenOnlyWhenEnabled.class)) {
+					Challenges.getInstance().getChallengeManager().registerDynamicListener(challenge, plugin);
+				} else {
+					plugin.registerListener((Listener) challenge);
+				}
 			}
 
 		} catch (Throwable ex) {
@@ -125,6 +136,7 @@ public class ModuleChallengeLoader {
 		Challenges.getInstance().getScheduler().unregister(challenge);
 		Challenges.getInstance().getConfigManager().getSettingsConfig().remove(challenge.getUniqueName());
 		Challenges.getInstance().getConfigManager().getGameStateConfig().remove(challenge.getUniqueGamestateName());
+		Challenges.getInstance().getChallengeManager().getGamestateStorage().deleteSegment(challenge.getUniqueGamestateName());
 
 		if (challenge instanceof Listener) {
 			HandlerList.unregisterAll((Listener) challenge);
@@ -0,0 +1,24 @@
+package net.codingarea.challenges.plugin.management.challenges.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The event handlers of challenges annotated with this are only registered while the challenge is enabled.
+ * Only use this if none of the handlers has to be executed while the challenge is disabled.
+ *
+ * @see net.codingarea.challenges.plugin.management.challenges.ChallengeManager#updateListener(net.codingarea.challenges.plugin.challenges.type.IChallenge)
+ * @since 2.2.3
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ListenOnlyWhenEnabled {
+
+	/**
+	 * @return whether the handlers should also only be registered while the timer is running
+	 */
+	boolean requireStarted() default false;
+
+}
@@ -0,0 +1,36 @@
+package net.codingarea.challenges.plugin.management.challenges.entities;
+
+import net.anweisen.utilities.common.config.Document;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * A {@link GamestateSaveable} with a large gamestate which is stored in its own segment file.
+ * The segment is only written again if the gamestate changed and is serialized off the primary thread.
+ *
+ * @since 2.2.3
+ */
+public interface SegmentedGamestateSaveable extends GamestateSaveable {
+
+	/**
+	 * @return whether the gamestate changed since it was last {@link #captureGameState() captured}
+	 */
+	boolean isGamestateDirty();
+
+	/**
+	 * Captures a snapshot of the current gamestate and resets the dirty state.
+	 * Called on the primary thread, the returned snapshot is written async and must not access the live state.
+	 *
+	 * @return the snapshot writing the gamestate into the given document
+	 */
+	@Nonnull
+	Consumer<Document> captureGameState();
+
+	/**
+	 * Called when writing a captured snapshot failed, so the gamestate is captured again on the next save.
+	 * May be called from the thread writing the gamestate.
+	 */
+	void markGamestateDirty();
+
+}
@@ -0,0 +1,196 @@
+package net.codingarea.challenges.plugin.management.files;
+
+import net.anweisen.utilities.bukkit.utils.logging.Logger;
+import net.anweisen.utilities.common.config.Document;
+import net.anweisen.utilities.common.config.FileDocument;
+import net.anweisen.utilities.common.config.document.GsonDocument;
+import net.codingarea.challenges.plugin.Challenges;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Writes the gamestate files on a single background thread, so writes are executed in the order they were submitted.
+ * Files are written to a temporary file first and then moved to their target, so a crash while saving never leaves a half written file.
+ * Large gamestates are stored in their own segment file inside {@code internal/gamestate/}.
+ *
+ * @since 2.2.3
+ */
+public final class GamestateStorage {
+
+	private final File gamestateFile;
+	private final File segmentDirectory;
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Challenges Gamestate Writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * The content of the gamestate file as it was written last, used to skip writes without changes
+	 */
+	private volatile String writtenGamestate;
+
+	/**
+	 * The names of the segments which were read or written successfully
+	 */
+	private final Set<String> storedSegments = ConcurrentHashMap.newKeySet();
+
+	public GamestateStorage() {
+		gamestateFile = Challenges.getInstance().getDataFile("internal/gamestate.json");
+		segmentDirectory = Challenges.getInstance().getDataFile("internal/gamestate");
+	}
+
+	/**
+	 * @return the stored segment or {@code null} if there is none
+	 */
+	@Nullable
+	public Document readSegment(@Nonnull String name) {
+		File file = getSegmentFile(name);
+		if (!file.isFile()) return null;
+		try {
+			Document document = FileDocument.readJsonFile(file);
+			storedSegments.add(name);
+			return document;
+		} catch (Exception ex) {
+			Logger.error("Could not read gamestate segment '{}'", name, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * @return whether the segment was read or written successfully, so it no longer has to be kept in the gamestate file
+	 */
+	public boolean hasSegment(@Nonnull String name) {
+		return storedSegments.contains(name);
+	}
+
+	/**
+	 * Writes the gamestate file if its content changed and the segments by calling their snapshots.
+	 *
+	 * @param gamestate the serialized content of the gamestate file
+	 * @param segments the snapshots of the changed segments by their name
+	 * @param onSegmentFailure called with the name of every segment which could not be written
+	 * @param async whether the files should be written on the background thread
+	 */
+	public void save(@Nonnull String gamestate, @Nonnull Map<String, Consumer<Document>> segments, @Nonnull Consumer<String> onSegmentFailure, boolean async) {
+		execute(() -> {
+			for (Entry<String, Consumer<Document>> entry : segments.entrySet()) {
+				try {
+					Document document = new GsonDocument();
+					entry.getValue().accept(document);
+					write(getSegmentFile(entry.getKey()), document.toJson());
+					storedSegments.add(entry.getKey());
+				} catch (Exception ex) {
+					Logger.error("Could not write gamestate segment '{}'", entry.getKey(), ex);
+					onSegmentFailure.accept(entry.getKey());
+				}
+			}
+
+			if (gamestate.equals(writtenGamestate)) return;
+			try {
+				write(gamestateFile, gamestate);
+				writtenGamestate = gamestate;
+			} catch (Exception ex) {
+				Logger.error("Could not write gamestate", ex);
+			}
+		}, async);
+	}
+
+	public void deleteSegment(@Nonnull String name) {
+		execute(() -> {
+			storedSegments.remove(name);
+			delete(getSegmentFile(name));
+		}, false);
+	}
+
+	/**
+	 * Deletes all segments, waiting for writes still in progress
+	 */
+	public void clear() {
+		execute(() -> {
+			storedSegments.clear();
+			writtenGamestate = null;
+			File[] files = segmentDirectory.listFiles();
+			if (files == null) return;
+			for (File file : files) {
+				delete(file);
+			}
+		}, false);
+	}
+
+	/**
+	 * Waits for the submitted writes and stops the background thread
+	 */
+	public void disable() {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(30, TimeUnit.SECONDS))
+				Logger.warn("Gamestate writes did not finish in time");
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void execute(@Nonnull Runnable action, boolean async) {
+		if (executor.isShutdown()) {
+			action.run();
+			return;
+		}
+		if (async) {
+			executor.execute(action);
+			return;
+		}
+
+		// Wait for the previously submitted writes, so they don't overwrite the newer state
+		try {
+			executor.submit(action).get();
+		} catch (ExecutionException ex) {
+			Logger.error("Could not save gamestate", ex.getCause());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void write(@Nonnull File file, @Nonnull String content) throws IOException {
+		Path target = file.toPath();
+		Files.createDirectories(target.getParent());
+		Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+		Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+		try {
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException ex) {
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private void delete(@Nonnull File file) {
+		try {
+			Files.deleteIfExists(file.toPath());
+		} catch (IOException ex) {
+			Logger.error("Could not delete gamestate file {}", file.getName(), ex);
+		}
+	}
+
+	@Nonnull
+	private File getSegmentFile(@Nonnull String name) {
+		return new File(segmentDirectory, name + ".json");
+	}
+
+}
@@ -18,6 +18,7 @@ import net.codingarea.challenges.plugin.management.menu.generator.ChallengeMenuG
 import net.codingarea.challenges.plugin.management.menu.generator.MenuGenerator;
 import net.codingarea.challenges.plugin.spigot.listener.ChatInputListener;
 import net.codingarea.challenges.plugin.utils.bukkit.misc.BukkitStringUtils;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import net.codingarea.challenges.plugin.utils.misc.InventoryUtils;
 import net.codingarea.challenges.plugin.utils.misc.InventoryUtils.InventorySetter;
@@ -44,9 +45,7 @@ public class InfoMenuGenerator extends MenuGenerator implements IParentCustomGen
 
 	static {
 		savePlayerChallenges = Challenges.getInstance().getConfigDocument().getBoolean("save-player_challenges");
-		ArrayList<Material> list = new ArrayList<>(Arrays.asList(Material.values()));
-		list.removeIf(material1 -> !material1.isItem());
-		defaultMaterials = list.toArray(new Material[0]);
+		defaultMaterials = Catalog.ITEMS.toArray();
 	}
 
 	private final UUID uuid;
@@ -1,8 +1,8 @@
 package net.codingarea.challenges.plugin.management.menu.generator.implementation.custom;
 
-import net.anweisen.utilities.bukkit.utils.misc.BukkitReflectionUtils;
 import net.codingarea.challenges.plugin.challenges.custom.settings.SettingType;
 import net.codingarea.challenges.plugin.management.menu.generator.ChooseItemGenerator;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.misc.MapUtils;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -26,9 +26,7 @@ public class MaterialMenuGenerator extends ChooseItemGenerator {
 	public static LinkedHashMap<String, ItemStack> createMaterialsMap() {
 		LinkedHashMap<String, ItemStack> map = new LinkedHashMap<>();
 
-		for (Material material : Material.values()) {
-			if (BukkitReflectionUtils.isAir(material)) continue;
-			if (!material.isItem()) continue;
+		for (Material material : Catalog.NON_AIR_ITEMS.asList()) {
 			map.put(material.name(), new ItemStack(material));
 		}
 
@@ -1,11 +1,13 @@
 package net.codingarea.challenges.plugin.management.scheduler;
 
 import net.anweisen.utilities.bukkit.utils.logging.Logger;
+import net.codingarea.challenges.plugin.management.scheduler.policy.PolicySnapshot;
 
 import javax.annotation.Nonnull;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -13,19 +15,59 @@ import java.util.List;
  */
 public abstract class AbstractTaskExecutor implements Runnable {
 
-	protected final List<ScheduledFunction> functions = new ArrayList<>(1);
+	protected final List<ScheduledFunction> functions = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Functions whose holder is in a challenge status their policy does not accept.
+	 * They are not visited while executing and moved back by {@link #updateStatus(Object)}.
+	 */
+	private final List<ScheduledFunction> inactive = new CopyOnWriteArrayList<>();
 
 	@Override
 	public void run() {
+		if (functions.isEmpty()) return;
+
+		int state = PolicySnapshot.sample();
 		for (ScheduledFunction function : functions) {
-			try {
-				function.invoke();
-			} catch (InvocationTargetException | IllegalAccessException ex) {
-				Logger.error("An exception occurred while executing {}", function, ex);
-			}
+			execute(function, state);
+		}
+	}
+
+	/**
+	 * Whether the execution times are measured and recorded in the {@link FunctionProfile profiles} of the functions
+	 */
+	protected boolean profiled;
+
+	/**
+	 * @return the execution time of the function in nanoseconds, {@code 0} if it was not executed or is not {@link #profiled}
+	 */
+	protected final long execute(@Nonnull ScheduledFunction function, int state) {
+		if (!function.acceptsPolicies(state)) return 0;
+		if (!profiled) {
+			invoke(function);
+			return 0;
+		}
+
+		long start = System.nanoTime();
+		invoke(function);
+		long nanos = System.nanoTime() - start;
+		function.getProfile().record(nanos);
+		return nanos;
+	}
+
+	private void invoke(@Nonnull ScheduledFunction function) {
+		try {
+			function.invokeAnyway();
+		} catch (Throwable ex) {
+			// Errors like NoSuchMethodError on unsupported versions must not stop the other functions
+			Logger.error("An exception occurred while executing {}", function, ex);
 		}
 	}
 
+	void setProfiled(boolean profiled) {
+		this.profiled = profiled;
+	}
+
 	@Nonnull
 	public abstract AbstractTaskConfig getConfig();
 
@@ -35,6 +77,33 @@ public abstract class AbstractTaskExecutor implements Runnable {
 
 	public void unregister(@Nonnull Object holder) {
 		functions.removeIf(function -> function.getHolder() == holder);
+		inactive.removeIf(function -> function.getHolder() == holder);
+	}
+
+	/**
+	 * Moves the functions of the holder between the executed and the inactive functions,
+	 * depending on whether their challenge status policy accepts the current status of the holder.
+	 */
+	public void updateStatus(@Nonnull Object holder) {
+		move(functions, inactive, holder, false);
+		move(inactive, functions, holder, true);
+	}
+
+	private void move(@Nonnull List<ScheduledFunction> from, @Nonnull List<ScheduledFunction> to, @Nonnull Object holder, boolean accepted) {
+		List<ScheduledFunction> moved = new ArrayList<>(1);
+		from.removeIf(function -> {
+			if (function.getHolder() != holder || function.acceptsChallengeStatus() != accepted) return false;
+			moved.add(function);
+			return true;
+		});
+		to.addAll(moved);
+	}
+
+	@Nonnull
+	public List<ScheduledFunction> getFunctions() {
+		List<ScheduledFunction> all = new ArrayList<>(functions);
+		all.addAll(inactive);
+		return Collections.unmodifiableList(all);
 	}
 
 }
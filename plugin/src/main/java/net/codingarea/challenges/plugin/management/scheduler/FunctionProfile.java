@@ -0,0 +1,79 @@
+package net.codingarea.challenges.plugin.management.scheduler;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the execution times of a {@link ScheduledFunction} in a fixed bucket histogram.
+ * Recording does not lock, the values are read by the profiler command while functions are executed.
+ *
+ * @since 2.2.3
+ */
+public final class FunctionProfile {
+
+	/** Upper bounds of the histogram buckets in microseconds, the last bucket collects everything above */
+	private static final long[] BUCKET_BOUNDS = { 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000 };
+
+	private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+	public FunctionProfile() {
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	public void record(long nanos) {
+		long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+		int bucket = 0;
+		while (bucket < BUCKET_BOUNDS.length && micros > BUCKET_BOUNDS[bucket]) bucket++;
+
+		buckets[bucket].increment();
+		count.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+	}
+
+	public void reset() {
+		for (LongAdder bucket : buckets) bucket.reset();
+		count.reset();
+		totalNanos.reset();
+		maxNanos.reset();
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	public double getAverageMillis() {
+		long count = getCount();
+		return count == 0 ? 0 : getTotalNanos() / (double) count / 1_000_000d;
+	}
+
+	@Nonnull
+	public long[] getBuckets() {
+		long[] values = new long[buckets.length];
+		for (int i = 0; i < buckets.length; i++) {
+			values[i] = buckets[i].sum();
+		}
+		return values;
+	}
+
+	@Nonnull
+	public static long[] getBucketBounds() {
+		return BUCKET_BOUNDS.clone();
+	}
+
+}
@@ -1,25 +1,29 @@
 package net.codingarea.challenges.plugin.management.scheduler;
 
-import net.codingarea.challenges.plugin.management.scheduler.policy.IPolicy;
+import net.codingarea.challenges.plugin.challenges.type.IChallenge;
+import net.codingarea.challenges.plugin.management.scheduler.policy.ChallengeStatusPolicy;
+import net.codingarea.challenges.plugin.management.scheduler.policy.GlobalPolicy;
+import net.codingarea.challenges.plugin.management.scheduler.policy.PolicySnapshot;
 import net.codingarea.challenges.plugin.management.scheduler.task.ScheduledTask;
 import net.codingarea.challenges.plugin.management.scheduler.task.TimerTask;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 
 /**
+ * The global policies are reduced to a bitmask once, so they can be checked against
+ * a {@link PolicySnapshot} sampled once per execution.
+ *
  * @author anweisen | https://github.com/anweisen
  * @since 2.0
  */
 public class PoliciesContainer {
 
-	private final List<IPolicy> policies = new ArrayList<>();
+	private final ChallengeStatusPolicy challengePolicy;
+	private int requiredFlags;
 
 	public PoliciesContainer(@Nonnull ScheduledTask annotation) {
+		this.challengePolicy = annotation.challengePolicy();
 		addPolicies(
-				annotation.challengePolicy(),
 				annotation.timerPolicy(),
 				annotation.playerPolicy(),
 				annotation.worldPolicy(),
@@ -28,25 +32,31 @@ public class PoliciesContainer {
 	}
 
 	public PoliciesContainer(@Nonnull TimerTask annotation) {
+		this.challengePolicy = annotation.challengePolicy();
 		addPolicies(
-				annotation.challengePolicy(),
 				annotation.playerPolicy(),
 				annotation.worldPolicy(),
 				annotation.freshnessPolicy()
 		);
 	}
 
-	private void addPolicies(@Nonnull IPolicy... policies) {
-		this.policies.addAll(Arrays.asList(policies));
+	private void addPolicies(@Nonnull GlobalPolicy... policies) {
+		for (GlobalPolicy policy : policies) {
+			requiredFlags |= policy.getFlag();
+		}
 	}
 
 	public boolean allPoliciesAreTrue(@Nonnull Object holder) {
-		for (IPolicy policy : policies) {
-			if (!policy.isApplicable(holder)) continue;
-			if (!policy.check(holder))
-				return false;
-		}
-		return true;
+		return allPoliciesAreTrue(holder, PolicySnapshot.sample());
+	}
+
+	public boolean allPoliciesAreTrue(@Nonnull Object holder, int state) {
+		return PolicySnapshot.matches(state, requiredFlags) && challengePolicyIsTrue(holder);
+	}
+
+	public boolean challengePolicyIsTrue(@Nonnull Object holder) {
+		if (challengePolicy == ChallengeStatusPolicy.ALWAYS || !(holder instanceof IChallenge)) return true;
+		return challengePolicy.check(holder);
 	}
 
 }
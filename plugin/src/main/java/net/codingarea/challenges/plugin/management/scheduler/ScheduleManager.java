@@ -2,14 +2,23 @@ package net.codingarea.challenges.plugin.management.scheduler;
 
 import net.anweisen.utilities.bukkit.utils.logging.Logger;
 import net.anweisen.utilities.common.misc.ReflectionUtils;
+import net.anweisen.utilities.common.config.Document;
 import net.codingarea.challenges.plugin.ChallengeAPI;
+import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.management.scheduler.task.ScheduledTask;
 import net.codingarea.challenges.plugin.management.scheduler.task.TimerTask;
 
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -21,6 +30,19 @@ public final class ScheduleManager {
 	private final Map<TimerTaskConfig, TimerTaskExecutor> timerTaskExecutorsByConfig = new ConcurrentHashMap<>();
 	private boolean started = false;
 
+	private final TickBudget budget;
+	private final boolean profiled;
+	private BukkitTask budgetTask;
+	private int nextOffset;
+
+	public ScheduleManager() {
+		Document config = Challenges.getInstance().getConfigDocument();
+		budget = config.getBoolean("scheduler.time-sliced") ?
+				new TickBudget(TimeUnit.MILLISECONDS.toNanos(Math.max(1, config.getInt("scheduler.tick-budget", 10)))) : null;
+		// Time-sliced executors measure the functions anyway, so they are always profiled
+		profiled = budget != null || config.getBoolean("scheduler.profile");
+	}
+
 	public void register(@Nonnull Object... schedulers) {
 		for (Object scheduler : schedulers) {
 			register(scheduler);
@@ -35,7 +57,7 @@ public final class ScheduleManager {
 			}
 
 			ScheduledTask annotation = method.getAnnotation(ScheduledTask.class);
-			ScheduledFunction function = new ScheduledFunction(scheduler, method, new PoliciesContainer(annotation));
+			ScheduledFunction function = new ScheduledFunction(scheduler, method, new PoliciesContainer(annotation), annotation.critical());
 
 			Logger.debug("Registered scheduled task {}", function);
 			register(function, new ScheduledTaskConfig(annotation));
@@ -47,7 +69,7 @@ public final class ScheduleManager {
 			}
 
 			TimerTask annotation = method.getAnnotation(TimerTask.class);
-			ScheduledFunction function = new ScheduledFunction(scheduler, method, new PoliciesContainer(annotation));
+			ScheduledFunction function = new ScheduledFunction(scheduler, method, new PoliciesContainer(annotation), true);
 
 			Logger.debug("Registered timer task {}", function);
 			register(function, new TimerTaskConfig(annotation));
@@ -60,6 +82,20 @@ public final class ScheduleManager {
 		}
 	}
 
+	/**
+	 * Has to be called when the challenge status of the holder changed, so functions which cannot
+	 * pass their challenge status policy are not visited on every execution.
+	 * Holders which never report their status changes must not be passed, their functions would stay inactive.
+	 */
+	public void updateStatus(@Nonnull Object holder) {
+		for (ScheduledTaskExecutor executor : scheduledTaskExecutorsByConfig.values()) {
+			executor.updateStatus(holder);
+		}
+		for (TimerTaskExecutor executor : timerTaskExecutorsByConfig.values()) {
+			executor.updateStatus(holder);
+		}
+	}
+
 	private void register(@Nonnull ScheduledFunction function, @Nonnull AbstractTaskConfig config) {
 		if (config instanceof ScheduledTaskConfig) {
 			ScheduledTaskConfig taskConfig = (ScheduledTaskConfig) config;
@@ -84,8 +120,10 @@ public final class ScheduleManager {
 		ScheduledTaskExecutor executor = scheduledTaskExecutorsByConfig.get(config);
 		if (executor != null) return executor;
 
-		// Create new task
-		executor = new ScheduledTaskExecutor(config);
+		// Create new task, time-sliced executors are started with different offsets to spread them over the ticks
+		executor = budget == null ? new ScheduledTaskExecutor(config) :
+				new ScheduledTaskExecutor(config, budget, nextOffset++ % config.getRate());
+		executor.setProfiled(profiled);
 		if (started) executor.start();
 		scheduledTaskExecutorsByConfig.put(config, executor);
 		return executor;
@@ -98,6 +136,7 @@ public final class ScheduleManager {
 
 		// Create new task
 		executor = new TimerTaskExecutor(config);
+		executor.setProfiled(profiled);
 		timerTaskExecutorsByConfig.put(config, executor);
 		return executor;
 	}
@@ -110,8 +149,28 @@ public final class ScheduleManager {
 		}
 	}
 
+	@Nonnull
+	public List<ScheduledFunction> getFunctions() {
+		List<ScheduledFunction> functions = new ArrayList<>();
+		scheduledTaskExecutorsByConfig.values().forEach(executor -> functions.addAll(executor.getFunctions()));
+		timerTaskExecutorsByConfig.values().forEach(executor -> functions.addAll(executor.getFunctions()));
+		return functions;
+	}
+
+	/**
+	 * @return the budget of the time-sliced scheduler, {@code null} if the scheduler is not time-sliced
+	 */
+	@Nullable
+	public TickBudget getTickBudget() {
+		return budget;
+	}
+
 	public void stop() {
 		started = false;
+		if (budgetTask != null) {
+			budgetTask.cancel();
+			budgetTask = null;
+		}
 		scheduledTaskExecutorsByConfig.values().forEach(ScheduledTaskExecutor::stop);
 		scheduledTaskExecutorsByConfig.clear();
 		timerTaskExecutorsByConfig.clear();
@@ -119,6 +178,8 @@ public final class ScheduleManager {
 
 	public void start() {
 		started = true;
+		if (budget != null)
+			budgetTask = Bukkit.getScheduler().runTaskTimer(Challenges.getInstance(), budget::reset, 0, 1);
 		scheduledTaskExecutorsByConfig.values().forEach(ScheduledTaskExecutor::start);
 	}
 
@@ -1,11 +1,22 @@
 package net.codingarea.challenges.plugin.management.scheduler;
 
+import net.anweisen.utilities.bukkit.utils.logging.Logger;
+import net.codingarea.challenges.plugin.management.scheduler.policy.PolicySnapshot;
+
 import javax.annotation.Nonnull;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Objects;
 
 /**
+ * The annotated method is turned into a {@link Runnable} once on creation,
+ * so executing the function does not go through {@link Method#invoke(Object, Object...)} every tick.
+ *
  * @author anweisen | https://github.com/anweisen
  * @since 2.0
  */
@@ -14,25 +25,89 @@ public final class ScheduledFunction {
 	private final Method method;
 	private final Object holder;
 	private final PoliciesContainer policies;
+	private final Runnable handle;
+	private final boolean critical;
+	private final FunctionProfile profile = new FunctionProfile();
 
-	ScheduledFunction(@Nonnull Object holder, @Nonnull Method method, @Nonnull PoliciesContainer policies) {
+	ScheduledFunction(@Nonnull Object holder, @Nonnull Method method, @Nonnull PoliciesContainer policies, boolean critical) {
 		this.method = method;
 		this.holder = holder;
 		this.policies = policies;
+		this.critical = critical;
+		this.handle = createHandle(holder, method);
+	}
+
+	public void invoke() {
+		invoke(PolicySnapshot.sample());
 	}
 
-	public void invoke() throws InvocationTargetException, IllegalAccessException {
-		if (shouldInvoke())
+	/**
+	 * @param state the {@link PolicySnapshot} sampled for the current execution
+	 */
+	public void invoke(int state) {
+		if (policies.allPoliciesAreTrue(holder, state))
 			invokeAnyway();
 	}
 
-	public void invokeAnyway() throws InvocationTargetException, IllegalAccessException {
-		method.setAccessible(true);
-		method.invoke(holder);
+	/**
+	 * @param state the {@link PolicySnapshot} sampled for the current execution
+	 * @return whether all policies accept the given state and the current status of the holder
+	 */
+	public boolean acceptsPolicies(int state) {
+		return policies.allPoliciesAreTrue(holder, state);
 	}
 
-	private boolean shouldInvoke() {
-		return policies.allPoliciesAreTrue(holder);
+	/**
+	 * @return whether the challenge status policy accepts the current status of the holder
+	 */
+	public boolean acceptsChallengeStatus() {
+		return policies.challengePolicyIsTrue(holder);
+	}
+
+	public void invokeAnyway() {
+		handle.run();
+	}
+
+	@Nonnull
+	private static Runnable createHandle(@Nonnull Object holder, @Nonnull Method method) {
+		method.setAccessible(true);
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		// The lambda metafactory can only link methods the lookup is able to see directly,
+		// schedulers registered by addons live in another class loader and use a plain method handle
+		Class<?> declaringClass = method.getDeclaringClass();
+		if (Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(declaringClass.getModifiers())
+				&& declaringClass.getClassLoader() == ScheduledFunction.class.getClassLoader()) {
+			try {
+				MethodHandle target = lookup.unreflect(method);
+				CallSite site = LambdaMetafactory.metafactory(
+						lookup,
+						"run",
+						MethodType.methodType(Runnable.class, declaringClass),
+						MethodType.methodType(void.class),
+						target,
+						MethodType.methodType(void.class)
+				);
+				return (Runnable) site.getTarget().invoke(holder);
+			} catch (Throwable ex) {
+				Logger.debug("Could not create lambda for {}, falling back to method handle", method, ex);
+			}
+		}
+
+		try {
+			MethodHandle target = lookup.unreflect(method).bindTo(holder).asType(MethodType.methodType(void.class));
+			return () -> {
+				try {
+					target.invokeExact();
+				} catch (RuntimeException | Error ex) {
+					throw ex;
+				} catch (Throwable ex) {
+					throw new IllegalStateException(ex);
+				}
+			};
+		} catch (IllegalAccessException ex) {
+			throw new IllegalArgumentException("Cannot access scheduled method " + method, ex);
+		}
 	}
 
 	@Override
@@ -53,6 +128,21 @@ public final class ScheduledFunction {
 		return holder;
 	}
 
+	/**
+	 * @return whether this function may not be deferred to the next tick when the tick budget is used up
+	 */
+	public boolean isCritical() {
+		return critical;
+	}
+
+	/**
+	 * @return the execution times, only recorded if the scheduler is time-sliced or profiling is enabled
+	 */
+	@Nonnull
+	public FunctionProfile getProfile() {
+		return profile;
+	}
+
 	@Override
 	public String toString() {
 		return holder.getClass().getName() + "." + method.getName() + "()";
@@ -1,13 +1,23 @@
 package net.codingarea.challenges.plugin.management.scheduler;
 
 import net.codingarea.challenges.plugin.Challenges;
+import net.codingarea.challenges.plugin.management.scheduler.policy.PolicySnapshot;
 import org.bukkit.Bukkit;
 import org.bukkit.scheduler.BukkitScheduler;
 import org.bukkit.scheduler.BukkitTask;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
+ * If a {@link TickBudget} is given, synchronous functions are time-sliced:
+ * Once the budget of the current tick is used up, remaining non-critical functions are deferred to the next tick.
+ * If the next regular execution starts before all deferred functions were executed, it starts with the first deferred function.
+ * Every function is executed at most once per regular execution.
+ *
  * @author anweisen | https://github.com/anweisen
  * @see ScheduleManager
  * @since 2.0
@@ -15,10 +25,102 @@ import javax.annotation.Nonnull;
 final class ScheduledTaskExecutor extends AbstractTaskExecutor {
 
 	private final ScheduledTaskConfig config;
+	private final TickBudget budget;
+	private final int offset;
 	private BukkitTask task;
 
+	/**
+	 * The one-shot task executing the deferred functions in the next tick
+	 */
+	private BukkitTask continuation;
+
+	/**
+	 * The first function deferred by the last execution, the next regular execution starts with it if it is still deferred
+	 */
+	private ScheduledFunction resumeFunction;
+
 	ScheduledTaskExecutor(@Nonnull ScheduledTaskConfig config) {
+		this(config, null, 0);
+	}
+
+	ScheduledTaskExecutor(@Nonnull ScheduledTaskConfig config, @Nullable TickBudget budget, @Nonnegative int offset) {
 		this.config = config;
+		this.budget = config.isAsync() ? null : budget;
+		this.offset = offset;
+	}
+
+	@Override
+	public void run() {
+		if (budget == null) {
+			super.run();
+			return;
+		}
+
+		runSliced();
+	}
+
+	private void runSliced() {
+		// Functions may be (un)registered by the executed functions, iterate a snapshot
+		ScheduledFunction[] snapshot = functions.toArray(new ScheduledFunction[0]);
+
+		// The deferred functions of the last execution were not executed yet, they are executed first now
+		int first = 0;
+		if (continuation != null) {
+			continuation.cancel();
+			continuation = null;
+			first = Math.max(0, indexOf(snapshot, resumeFunction));
+		}
+		resumeFunction = null;
+
+		if (snapshot.length == 0) return;
+		executeSliced(snapshot, first);
+	}
+
+	private void runContinuation(@Nonnull ScheduledFunction[] deferred) {
+		continuation = null;
+		resumeFunction = null;
+
+		// Skip functions which were unregistered in the meantime
+		List<ScheduledFunction> registered = new ArrayList<>(deferred.length);
+		for (ScheduledFunction function : deferred) {
+			if (functions.contains(function)) registered.add(function);
+		}
+		if (registered.isEmpty()) return;
+
+		executeSliced(registered.toArray(new ScheduledFunction[0]), 0);
+	}
+
+	/**
+	 * Executes the given functions cyclically starting at the given index until the budget is used up.
+	 * The remaining non-critical functions are executed in the next tick.
+	 */
+	private void executeSliced(@Nonnull ScheduledFunction[] functions, int first) {
+		int state = PolicySnapshot.sample();
+		List<ScheduledFunction> deferred = null;
+		for (int i = 0; i < functions.length; i++) {
+			ScheduledFunction function = functions[(first + i) % functions.length];
+			if (!function.isCritical() && budget.isExceeded()) {
+				if (deferred == null) deferred = new ArrayList<>();
+				deferred.add(function);
+				continue;
+			}
+
+			budget.consume(execute(function, state));
+		}
+
+		if (deferred == null) return;
+		budget.defer(deferred.size());
+
+		ScheduledFunction[] remaining = deferred.toArray(new ScheduledFunction[0]);
+		resumeFunction = remaining[0];
+		continuation = Bukkit.getScheduler().runTask(Challenges.getInstance(), () -> runContinuation(remaining));
+	}
+
+	private static int indexOf(@Nonnull ScheduledFunction[] functions, @Nullable ScheduledFunction function) {
+		for (int i = 0; i < functions.length; i++) {
+			if (functions[i] == function) return i;
+		}
+		return -1;
 	}
 
 	public void stop() {
@@ -26,13 +128,17 @@ final class ScheduledTaskExecutor extends AbstractTaskExecutor {
 			task.cancel();
 			task = null;
 		}
+		if (continuation != null) {
+			continuation.cancel();
+			continuation = null;
+		}
 	}
 
 	public void start() {
 		BukkitScheduler scheduler = Bukkit.getScheduler();
 		Challenges plugin = Challenges.getInstance();
-		task = config.isAsync() ? scheduler.runTaskTimerAsynchronously(plugin, this, 0, config.getRate()) :
-				scheduler.runTaskTimer(plugin, this, 0, config.getRate());
+		task = config.isAsync() ? scheduler.runTaskTimerAsynchronously(plugin, this, offset, config.getRate()) :
+				scheduler.runTaskTimer(plugin, this, offset, config.getRate());
 	}
 
 	@Nonnull
@@ -0,0 +1,57 @@
+package net.codingarea.challenges.plugin.management.scheduler;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * The time synchronous scheduled functions may use per tick when the scheduler runs time-sliced.
+ * The used time is reset by the {@link ScheduleManager} at the beginning of every tick.
+ *
+ * @since 2.2.3
+ */
+public final class TickBudget {
+
+	private final long budgetNanos;
+	private long usedNanos;
+	private boolean overrun;
+
+	private long overrunTicks;
+	private long deferredFunctions;
+
+	TickBudget(@Nonnegative long budgetNanos) {
+		this.budgetNanos = budgetNanos;
+	}
+
+	void reset() {
+		usedNanos = 0;
+		overrun = false;
+	}
+
+	void consume(long nanos) {
+		usedNanos += nanos;
+	}
+
+	boolean isExceeded() {
+		return usedNanos >= budgetNanos;
+	}
+
+	void defer(int functions) {
+		if (!overrun) {
+			overrun = true;
+			overrunTicks++;
+		}
+		deferredFunctions += functions;
+	}
+
+	public long getBudgetNanos() {
+		return budgetNanos;
+	}
+
+	public long getOverrunTicks() {
+		return overrunTicks;
+	}
+
+	public long getDeferredFunctions() {
+		return deferredFunctions;
+	}
+
+}
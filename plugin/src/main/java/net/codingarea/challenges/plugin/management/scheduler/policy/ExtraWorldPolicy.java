@@ -1,29 +1,24 @@
 package net.codingarea.challenges.plugin.management.scheduler.policy;
 
-import net.codingarea.challenges.plugin.ChallengeAPI;
-
-import javax.annotation.Nonnull;
-import java.util.function.BooleanSupplier;
-
 /**
  * @author anweisen | https://github.com/anweisen
  * @since 2.0
  */
-public enum ExtraWorldPolicy implements IPolicy {
+public enum ExtraWorldPolicy implements GlobalPolicy {
 
-	ALWAYS(() -> true),
-	USED(() -> ChallengeAPI.isWorldInUse()),
-	NOT_USED(() -> !ChallengeAPI.isWorldInUse());
+	ALWAYS(0),
+	USED(PolicySnapshot.WORLD_USED),
+	NOT_USED(PolicySnapshot.WORLD_NOT_USED);
 
-	private final BooleanSupplier check;
+	private final int flag;
 
-	ExtraWorldPolicy(@Nonnull BooleanSupplier check) {
-		this.check = check;
+	ExtraWorldPolicy(int flag) {
+		this.flag = flag;
 	}
 
 	@Override
-	public boolean check(@Nonnull Object holder) {
-		return check.getAsBoolean();
+	public int getFlag() {
+		return flag;
 	}
 
 }
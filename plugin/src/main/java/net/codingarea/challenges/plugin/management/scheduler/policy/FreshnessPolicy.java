@@ -1,29 +1,24 @@
 package net.codingarea.challenges.plugin.management.scheduler.policy;
 
-import net.codingarea.challenges.plugin.ChallengeAPI;
-
-import javax.annotation.Nonnull;
-import java.util.function.BooleanSupplier;
-
 /**
  * @author anweisen | https://github.com/anweisen
  * @since 2.0
  */
-public enum FreshnessPolicy implements IPolicy {
+public enum FreshnessPolicy implements GlobalPolicy {
 
-	ALWAYS(() -> true),
-	FRESH(() -> ChallengeAPI.isFresh()),
-	NOT_FRESH(() -> !ChallengeAPI.isFresh());
+	ALWAYS(0),
+	FRESH(PolicySnapshot.FRESH),
+	NOT_FRESH(PolicySnapshot.NOT_FRESH);
 
-	private final BooleanSupplier check;
+	private final int flag;
 
-	FreshnessPolicy(@Nonnull BooleanSupplier check) {
-		this.check = check;
+	FreshnessPolicy(int flag) {
+		this.flag = flag;
 	}
 
 	@Override
-	public boolean check(@Nonnull Object holder) {
-		return check.getAsBoolean();
+	public int getFlag() {
+		return flag;
 	}
 
 }
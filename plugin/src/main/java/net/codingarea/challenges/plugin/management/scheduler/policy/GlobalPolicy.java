@@ -0,0 +1,23 @@
+package net.codingarea.challenges.plugin.management.scheduler.policy;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A policy which only depends on the global server state and not on the holder of the function.
+ *
+ * @see PolicySnapshot
+ * @since 2.2.3
+ */
+public interface GlobalPolicy extends IPolicy {
+
+	/**
+	 * @return the {@link PolicySnapshot} flag required by this policy, {@code 0} if it always applies
+	 */
+	int getFlag();
+
+	@Override
+	default boolean check(@Nonnull Object holder) {
+		return PolicySnapshot.matches(PolicySnapshot.sample(), getFlag());
+	}
+
+}
@@ -1,30 +1,25 @@
 package net.codingarea.challenges.plugin.management.scheduler.policy;
 
-import org.bukkit.Bukkit;
-
-import javax.annotation.Nonnull;
-import java.util.function.BiPredicate;
-
 /**
  * @author anweisen | https://github.com/anweisen
  * @since 2.0
  */
-public enum PlayerCountPolicy implements IPolicy {
+public enum PlayerCountPolicy implements GlobalPolicy {
 
-	ALWAYS((online, max) -> true),
-	EMPTY((online, max) -> online == 0),
-	SOMEONE((online, max) -> online > 0),
-	FULL((online, max) -> online.equals(max));
+	ALWAYS(0),
+	EMPTY(PolicySnapshot.PLAYERS_EMPTY),
+	SOMEONE(PolicySnapshot.PLAYERS_SOMEONE),
+	FULL(PolicySnapshot.PLAYERS_FULL);
 
-	private final BiPredicate<Integer, Integer> check;
+	private final int flag;
 
-	PlayerCountPolicy(@Nonnull BiPredicate<Integer, Integer> check) {
-		this.check = check;
+	PlayerCountPolicy(int flag) {
+		this.flag = flag;
 	}
 
 	@Override
-	public boolean check(@Nonnull Object holder) {
-		return check.test(Bukkit.getOnlinePlayers().size(), Bukkit.getMaxPlayers());
+	public int getFlag() {
+		return flag;
 	}
 
 }
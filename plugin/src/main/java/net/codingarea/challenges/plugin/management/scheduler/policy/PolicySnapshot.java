@@ -0,0 +1,47 @@
+package net.codingarea.challenges.plugin.management.scheduler.policy;
+
+import net.codingarea.challenges.plugin.ChallengeAPI;
+import org.bukkit.Bukkit;
+
+/**
+ * Samples the global server state checked by {@link GlobalPolicy global policies} into a single bitmask.
+ * A set of global policies is satisfied if all of their flags are contained in the sampled state.
+ *
+ * @since 2.2.3
+ */
+public final class PolicySnapshot {
+
+	public static final int TIMER_PAUSED      = 1;
+	public static final int TIMER_STARTED     = 1 << 1;
+	public static final int WORLD_USED        = 1 << 2;
+	public static final int WORLD_NOT_USED    = 1 << 3;
+	public static final int FRESH             = 1 << 4;
+	public static final int NOT_FRESH         = 1 << 5;
+	public static final int PLAYERS_EMPTY     = 1 << 6;
+	public static final int PLAYERS_SOMEONE   = 1 << 7;
+	public static final int PLAYERS_FULL      = 1 << 8;
+
+	private PolicySnapshot() {
+	}
+
+	public static int sample() {
+		int state = 0;
+
+		if (ChallengeAPI.isPaused()) state |= TIMER_PAUSED;
+		if (ChallengeAPI.isStarted()) state |= TIMER_STARTED;
+
+		state |= ChallengeAPI.isWorldInUse() ? WORLD_USED : WORLD_NOT_USED;
+		state |= ChallengeAPI.isFresh() ? FRESH : NOT_FRESH;
+
+		int online = Bukkit.getOnlinePlayers().size();
+		state |= online == 0 ? PLAYERS_EMPTY : PLAYERS_SOMEONE;
+		if (online == Bukkit.getMaxPlayers()) state |= PLAYERS_FULL;
+
+		return state;
+	}
+
+	public static boolean matches(int state, int requiredFlags) {
+		return (state & requiredFlags) == requiredFlags;
+	}
+
+}
@@ -1,29 +1,24 @@
 package net.codingarea.challenges.plugin.management.scheduler.policy;
 
-import net.codingarea.challenges.plugin.ChallengeAPI;
-
-import javax.annotation.Nonnull;
-import java.util.function.BooleanSupplier;
-
 /**
  * @author anweisen | https://github.com/anweisen
  * @since 2.0
  */
-public enum TimerPolicy implements IPolicy {
+public enum TimerPolicy implements GlobalPolicy {
 
-	ALWAYS(() -> true),
-	PAUSED(() -> ChallengeAPI.isPaused()),
-	STARTED(() -> ChallengeAPI.isStarted());
+	ALWAYS(0),
+	PAUSED(PolicySnapshot.TIMER_PAUSED),
+	STARTED(PolicySnapshot.TIMER_STARTED);
 
-	private final BooleanSupplier check;
+	private final int flag;
 
-	TimerPolicy(@Nonnull BooleanSupplier check) {
-		this.check = check;
+	TimerPolicy(int flag) {
+		this.flag = flag;
 	}
 
 	@Override
-	public boolean check(@Nonnull Object holder) {
-		return check.getAsBoolean();
+	public int getFlag() {
+		return flag;
 	}
 
 }
@@ -22,6 +22,11 @@ public @interface ScheduledTask {
 
 	boolean async() default true;
 
+	/**
+	 * Critical tasks are always executed in their tick, even if the time-sliced scheduler has used up its tick budget
+	 */
+	boolean critical() default false;
+
 	@Nonnull
 	TimerPolicy timerPolicy() default TimerPolicy.STARTED;
 
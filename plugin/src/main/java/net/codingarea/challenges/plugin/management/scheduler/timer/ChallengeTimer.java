@@ -39,6 +39,11 @@ public final class ChallengeTimer {
 	private boolean hidden = false;
 	private boolean sentEmpty;
 
+	private Boolean smallCaps;
+	private String renderedTemplate;
+	private long renderedTime;
+	private TextComponent renderedActionbar;
+
 	public ChallengeTimer() {
 
 		Document pluginConfig = Challenges.getInstance().getConfigDocument();
@@ -55,6 +60,7 @@ public final class ChallengeTimer {
 		format = new TimerFormat(formatConfig);
 
 		Challenges.getInstance().getScheduler().register(this);
+		ChallengeAPI.subscribeLoader(LanguageLoader.class, this::invalidateActionbar);
 	}
 
 	public void enable() {
@@ -151,25 +157,41 @@ public final class ChallengeTimer {
 		if (sentEmpty && hidden) return;
 		if (hidden) sentEmpty = true;
 		if (!hidden) {
+			TextComponent actionbar = getActionbar();
 			for (Player player : Bukkit.getOnlinePlayers()) {
-				player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(getActionbar()));
+				player.spigot().sendMessage(ChatMessageType.ACTION_BAR, actionbar);
 			}
 		}
 
 	}
 
+	/**
+	 * The actionbar is only rendered again if the message or the time changed,
+	 * the same component is sent to all players.
+	 */
 	@Nonnull
-	private String getActionbar() {
-		String message = !paused || (!countingUp && time > 0) ? (countingUp ? upMessage : downMessage) : stoppedMessage;
-		String time = getFormattedTime();
-		message = message.replace("{time}", time);
-		return isSmallCaps() ? FontUtils.toSmallCaps(message) : message;
+	private TextComponent getActionbar() {
+		String template = !paused || (!countingUp && time > 0) ? (countingUp ? upMessage : downMessage) : stoppedMessage;
+		if (renderedActionbar != null && template == renderedTemplate && time == renderedTime) {
+			return renderedActionbar;
+		}
+
+		String message = template.replace("{time}", getFormattedTime());
+		renderedTemplate = template;
+		renderedTime = time;
+		return renderedActionbar = new TextComponent(isSmallCaps() ? FontUtils.toSmallCaps(message) : message);
 	}
 
 	private boolean isSmallCaps() {
+		if (smallCaps != null) return smallCaps;
 		LanguageLoader languageLoader = Challenges.getInstance().getLoaderRegistry().getFirstLoaderByClass(LanguageLoader.class);
 		if (languageLoader == null) return false;
-		return languageLoader.isSmallCapsFont();
+		return smallCaps = languageLoader.isSmallCapsFont();
+	}
+
+	private void invalidateActionbar() {
+		smallCaps = null;
+		renderedActionbar = null;
 	}
 
 	public synchronized void loadSession() {
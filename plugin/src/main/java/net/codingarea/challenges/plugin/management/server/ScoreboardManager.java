@@ -34,8 +34,11 @@ public final class ScoreboardManager {
 			bossbar.applyHide(player);
 		}
 		if (currentScoreboard != null) {
-			currentScoreboard.applyHide(player);
-			Bukkit.getScheduler().runTaskLaterAsynchronously(Challenges.getInstance(), () -> currentScoreboard.update(), 1);
+			ChallengeScoreboard scoreboard = currentScoreboard;
+			scoreboard.applyHide(player);
+			Bukkit.getScheduler().runTaskLater(Challenges.getInstance(), () -> {
+				if (currentScoreboard == scoreboard) scoreboard.update();
+			}, 1);
 		}
 	}
 
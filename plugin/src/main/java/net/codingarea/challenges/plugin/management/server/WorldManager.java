@@ -7,6 +7,7 @@ import net.anweisen.utilities.common.misc.FileUtils;
 import net.codingarea.challenges.plugin.ChallengeAPI;
 import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.content.Message;
+import net.codingarea.challenges.plugin.management.files.GamestateStorage;
 import net.codingarea.challenges.plugin.utils.bukkit.container.PlayerData;
 import net.codingarea.challenges.plugin.utils.misc.NameHelper;
 import org.bukkit.*;
@@ -17,6 +18,7 @@ import org.bukkit.entity.Player;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.*;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -128,9 +130,13 @@ public final class WorldManager {
 		}
 		sessionConfig.save();
 
+		// Clearing waits for pending writes, so they can't restore the old gamestate afterwards
+		GamestateStorage gamestateStorage = Challenges.getInstance().getChallengeManager().getGamestateStorage();
+		gamestateStorage.clear();
+
 		FileDocument gamestateConfig = Challenges.getInstance().getConfigManager().getGameStateConfig();
 		gamestateConfig.clear();
-		gamestateConfig.save();
+		gamestateStorage.save(gamestateConfig.toJson(), Collections.emptyMap(), name -> {}, false);
 
 	}
 
@@ -7,6 +7,7 @@ import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.utils.bukkit.nms.NMSUtils;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.TextComponent;
+import net.md_5.bungee.chat.ComponentSerializer;
 import org.bukkit.Bukkit;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
@@ -14,9 +15,13 @@ import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -24,65 +29,157 @@ import java.util.function.BiConsumer;
  */
 public final class ChallengeBossBar {
 
-	private final Map<Player, BossBar> bossbars = new ConcurrentHashMap<>();
+	private final Map<Player, AppliedState> bossbars = new ConcurrentHashMap<>();
+	private final Set<Player> pending = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
 	private BiConsumer<BossBarInstance, Player> content = (bossbar, player) -> {
 	};
+	private boolean playerIndependent;
 
-	private BossBar createBossbar(@Nonnull BossBarInstance instance) {
-		BossBar bossbar = Bukkit.createBossBar(instance.title.toPlainText(), instance.color, instance.style);
-		bossbar.setProgress(instance.progress);
-		return bossbar;
-	}
-
-	private void apply(@Nonnull BossBar bossbar, @Nonnull BossBarInstance instance) {
-		NMSUtils.setBossBarTitle(bossbar, instance.title);
-		bossbar.setColor(instance.color);
-		bossbar.setStyle(instance.style);
-		bossbar.setProgress(instance.progress);
-		bossbar.setVisible(instance.visible);
-	}
-
+	/**
+	 * @param content the content which is computed for every player separately
+	 */
 	public void setContent(@Nonnull BiConsumer<BossBarInstance, Player> content) {
 		this.content = content;
+		this.playerIndependent = false;
+	}
+
+	/**
+	 * @param content the content which is the same for all players, so it is only computed once per update
+	 */
+	public void setSharedContent(@Nonnull Consumer<BossBarInstance> content) {
+		this.content = (bossbar, player) -> content.accept(bossbar);
+		this.playerIndependent = true;
 	}
 
 	public void applyHide(@Nonnull Player player) {
-		BossBar bossbar = bossbars.get(player);
-		if (bossbar == null) return;
-		bossbar.removePlayer(player);
+		pending.remove(player);
+		AppliedState state = bossbars.get(player);
+		if (state == null) return;
+		state.bossbar.removePlayer(player);
+		state.added = false;
 	}
 
 	public void update() {
-		Bukkit.getOnlinePlayers().forEach(this::update);
+		if (!isShown()) {
+			Logger.warn("Tried to update bossbar which is not shown");
+			return;
+		}
+
+		pending.addAll(Bukkit.getOnlinePlayers());
+		scheduleFlush();
 	}
 
+	/**
+	 * Updates are not applied instantly but coalesced and applied once in the next tick
+	 */
 	public void update(@Nonnull Player player) {
 		if (!isShown()) {
 			Logger.warn("Tried to update bossbar which is not shown");
 			return;
 		}
 
-		try {
+		pending.add(player);
+		scheduleFlush();
+	}
+
+	private void scheduleFlush() {
+		if (!flushScheduled.compareAndSet(false, true)) return;
+		Bukkit.getScheduler().runTask(Challenges.getInstance(), this::flush);
+	}
+
+	private void flush() {
+		flushScheduled.set(false);
+		if (!isShown()) {
+			pending.clear();
+			return;
+		}
+
+		BossBarInstance shared = null;
+		for (Iterator<Player> iterator = pending.iterator(); iterator.hasNext(); ) {
+			Player player = iterator.next();
+			iterator.remove();
+			if (!player.isOnline()) continue;
+
+			try {
+				if (playerIndependent && shared == null) shared = createInstance(player);
+				BossBarInstance instance = playerIndependent ? shared : createInstance(player);
 
-			BossBarInstance instance = new BossBarInstance();
+				AppliedState state = bossbars.computeIfAbsent(player, key -> new AppliedState(createBossbar(instance)));
+				state.apply(instance);
 
-			if (ChallengeAPI.isPaused()) {
-				instance.setTitle(Message.forName("bossbar-timer-paused").asString());
-				instance.setColor(BarColor.RED);
-			} else {
-				content.accept(instance, player);
+				if (!state.added) {
+					state.bossbar.addPlayer(player);
+					state.added = true;
+				}
+
+			} catch (Exception ex) {
+				Logger.error("Unable to update bossbar for player '{}'", player.getName(), ex);
 			}
+		}
+	}
 
+	@Nonnull
+	private BossBarInstance createInstance(@Nonnull Player player) {
+		BossBarInstance instance = new BossBarInstance();
 
-			BossBar bossbar = bossbars.computeIfAbsent(player, key -> createBossbar(instance));
-			apply(bossbar, instance);
+		if (ChallengeAPI.isPaused()) {
+			instance.setTitle(Message.forName("bossbar-timer-paused").asString());
+			instance.setColor(BarColor.RED);
+		} else {
+			content.accept(instance, player);
+		}
+
+		return instance;
+	}
+
+	private BossBar createBossbar(@Nonnull BossBarInstance instance) {
+		BossBar bossbar = Bukkit.createBossBar(instance.title.toPlainText(), instance.color, instance.style);
+		bossbar.setProgress(instance.progress);
+		return bossbar;
+	}
 
-			if (!bossbar.getPlayers().contains(player))
-				bossbar.addPlayer(player);
+	/**
+	 * The last state applied to a bossbar, only properties which differ from it are sent again
+	 */
+	private static final class AppliedState {
+
+		private final BossBar bossbar;
+		private String title;
+		private BarColor color;
+		private BarStyle style;
+		private double progress;
+		private boolean visible;
+		private boolean added;
+
+		private AppliedState(@Nonnull BossBar bossbar) {
+			this.bossbar = bossbar;
+			this.color = bossbar.getColor();
+			this.style = bossbar.getStyle();
+			this.progress = bossbar.getProgress();
+			this.visible = bossbar.isVisible();
+		}
 
-		} catch (Exception ex) {
-			Logger.error("Unable to update bossbar for player '{}'", player.getName(), ex);
+		private void apply(@Nonnull BossBarInstance instance) {
+			String title = ComponentSerializer.toString(instance.title);
+			if (!title.equals(this.title)) {
+				NMSUtils.setBossBarTitle(bossbar, instance.title);
+				this.title = title;
+			}
+			if (instance.color != color) {
+				bossbar.setColor(color = instance.color);
+			}
+			if (instance.style != style) {
+				bossbar.setStyle(style = instance.style);
+			}
+			if (instance.progress != progress) {
+				bossbar.setProgress(progress = instance.progress);
+			}
+			if (instance.visible != visible) {
+				bossbar.setVisible(visible = instance.visible);
+			}
 		}
+
 	}
 
 	public final void show() {
@@ -1,14 +1,15 @@
 package net.codingarea.challenges.plugin.management.server.scoreboard;
 
 import net.anweisen.utilities.bukkit.utils.logging.Logger;
-import net.anweisen.utilities.common.misc.StringUtils;
 import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.content.Message;
 import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.DisplaySlot;
 import org.bukkit.scoreboard.Objective;
 import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -22,7 +23,10 @@ import java.util.function.BiConsumer;
  */
 public final class ChallengeScoreboard {
 
-	private final Map<Player, Objective> objectives = new ConcurrentHashMap<>();
+	private static final int MAX_AFFIX_LENGTH = 64;
+	private static final ChatColor[] ENTRY_COLORS = ChatColor.values();
+
+	private final Map<Player, RenderedBoard> boards = new ConcurrentHashMap<>();
 	private BiConsumer<ScoreboardInstance, Player> content = (scoreboard, player) -> {
 	};
 
@@ -31,7 +35,8 @@ public final class ChallengeScoreboard {
 	}
 
 	public void applyHide(@Nonnull Player player) {
-		unregister(objectives.remove(player));
+		RenderedBoard board = boards.remove(player);
+		if (board != null) board.unregister();
 	}
 
 	public void update() {
@@ -40,6 +45,11 @@ public final class ChallengeScoreboard {
 		}
 	}
 
+	/**
+	 * Renders the content for the given player and only sends the lines which changed since the last update.
+	 * Every line is represented by a team whose prefix and suffix contain the text of the line,
+	 * so changing a line does not require the objective to be rebuilt.
+	 */
 	public void update(@Nonnull Player player) {
 		if (!isShown()) {
 			Logger.warn("Tried to update scoreboard which is not shown");
@@ -47,49 +57,153 @@ public final class ChallengeScoreboard {
 		}
 
 		try {
-			if (objectives.containsKey(player)) {
-				unregister(objectives.remove(player));
-			}
-
 			ScoreboardInstance instance = new ScoreboardInstance();
 			content.accept(instance, player);
 
-			Collection<String> lines = instance.getLines();
+			List<String> lines = instance.getLines();
 			if (lines.isEmpty()) {
+				applyHide(player);
 				return;
 			}
 
-			Scoreboard scoreboard = player.getScoreboard();
 			if (Bukkit.getScoreboardManager() == null) {
 				return;
 			}
+			Scoreboard scoreboard = player.getScoreboard();
 			if (scoreboard == Bukkit.getScoreboardManager().getMainScoreboard()) {
 				player.setScoreboard(scoreboard = Bukkit.getScoreboardManager().getNewScoreboard());
 			}
 
-			String name = String.valueOf(player.getUniqueId().hashCode());
-			// Unregister any old objective existing
-			Objective objective1 = scoreboard.getObjective(name);
-			if (objective1 != null) {
-				unregister(objective1);
+			String title = String.valueOf(instance.getTitle());
+			RenderedBoard board = boards.get(player);
+			if (board != null && !board.isValid(scoreboard)) {
+				applyHide(player);
+				board = null;
 			}
-
-			Objective objective = scoreboard.registerNewObjective(name, "dummy", String.valueOf(instance.getTitle()));
-			int score = lines.size();
-			for (String line : lines) {
-				if (line.isEmpty()) line = StringUtils.repeat(' ', score + 1);
-				score--;
-				objective.getScore(line).setScore(score);
+			if (board == null) {
+				board = new RenderedBoard(scoreboard, createObjective(player, scoreboard, title));
+				boards.put(player, board);
 			}
 
-			objective.setDisplaySlot(DisplaySlot.SIDEBAR);
-			objectives.put(player, objective);
+			board.render(title, lines);
 
 		} catch (Exception ex) {
 			Logger.error("Unable to update scoreboard for player '{}'", player.getName(), ex);
 		}
 	}
 
+	@Nonnull
+	private Objective createObjective(@Nonnull Player player, @Nonnull Scoreboard scoreboard, @Nonnull String title) {
+		String name = String.valueOf(player.getUniqueId().hashCode());
+		// Unregister any old objective existing
+		Objective old = scoreboard.getObjective(name);
+		if (old != null) {
+			unregister(old);
+		}
+
+		Objective objective = scoreboard.registerNewObjective(name, "dummy", title);
+		objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+		return objective;
+	}
+
+	private static final class RenderedBoard {
+
+		private final Scoreboard scoreboard;
+		private final Objective objective;
+		private final List<String> lines = new ArrayList<>();
+		private String title;
+
+		private RenderedBoard(@Nonnull Scoreboard scoreboard, @Nonnull Objective objective) {
+			this.scoreboard = scoreboard;
+			this.objective = objective;
+			this.title = objective.getDisplayName();
+		}
+
+		private boolean isValid(@Nonnull Scoreboard current) {
+			return scoreboard == current && scoreboard.getObjective(objective.getName()) != null;
+		}
+
+		private void render(@Nonnull String title, @Nonnull List<String> lines) {
+			if (!title.equals(this.title)) {
+				objective.setDisplayName(title);
+				this.title = title;
+			}
+
+			boolean sizeChanged = lines.size() != this.lines.size();
+			for (int i = 0; i < lines.size(); i++) {
+				String line = lines.get(i);
+				if (i < this.lines.size() && line.equals(this.lines.get(i))) continue;
+
+				Team team = getOrCreateTeam(i);
+				int split = getSplitIndex(line);
+				team.setPrefix(line.substring(0, split));
+				team.setSuffix(split == line.length() ? "" : limit(ChatColor.getLastColors(line.substring(0, split)) + line.substring(split)));
+			}
+
+			if (sizeChanged) {
+				for (int i = 0; i < lines.size(); i++) {
+					objective.getScore(getEntry(i)).setScore(lines.size() - i - 1);
+				}
+				for (int i = lines.size(); i < this.lines.size(); i++) {
+					scoreboard.resetScores(getEntry(i));
+					Team team = scoreboard.getTeam(getTeamName(i));
+					if (team != null) team.unregister();
+				}
+			}
+
+			this.lines.clear();
+			this.lines.addAll(lines);
+		}
+
+		@Nonnull
+		private Team getOrCreateTeam(int index) {
+			String name = getTeamName(index);
+			Team team = scoreboard.getTeam(name);
+			if (team == null) {
+				team = scoreboard.registerNewTeam(name);
+				team.addEntry(getEntry(index));
+			}
+			return team;
+		}
+
+		private void unregister() {
+			for (int i = 0; i < lines.size(); i++) {
+				try {
+					Team team = scoreboard.getTeam(getTeamName(i));
+					if (team != null) team.unregister();
+				} catch (Exception ex) {
+					Logger.error("Unable to unregister scoreboard team {}", getTeamName(i));
+				}
+			}
+			ChallengeScoreboard.unregister(objective);
+		}
+
+		@Nonnull
+		private static String getTeamName(int index) {
+			return "challenges-" + index;
+		}
+
+		/**
+		 * @return an invisible entry which is unique for every line
+		 */
+		@Nonnull
+		private static String getEntry(int index) {
+			return ENTRY_COLORS[index].toString() + ChatColor.RESET;
+		}
+
+		private static int getSplitIndex(@Nonnull String line) {
+			if (line.length() <= MAX_AFFIX_LENGTH) return line.length();
+			// Don't split color codes
+			return line.charAt(MAX_AFFIX_LENGTH - 1) == ChatColor.COLOR_CHAR ? MAX_AFFIX_LENGTH - 1 : MAX_AFFIX_LENGTH;
+		}
+
+		@Nonnull
+		private static String limit(@Nonnull String text) {
+			return text.length() <= MAX_AFFIX_LENGTH ? text : text.substring(0, MAX_AFFIX_LENGTH);
+		}
+
+	}
+
 	public final void show() {
 		Challenges.getInstance().getScoreboardManager().setCurrentScoreboard(this);
 	}
@@ -103,7 +217,7 @@ public final class ChallengeScoreboard {
 		return Challenges.getInstance().getScoreboardManager().isShown(this);
 	}
 
-	private void unregister(@Nullable Objective objective) {
+	private static void unregister(@Nullable Objective objective) {
 		try {
 			if (objective == null) return;
 			objective.unregister();
@@ -130,7 +244,7 @@ public final class ChallengeScoreboard {
 		}
 
 		@Nonnull
-		public Collection<String> getLines() {
+		public List<String> getLines() {
 			List<String> list = new ArrayList<>();
 			for (String line : lines) {
 				if (line == null) continue;
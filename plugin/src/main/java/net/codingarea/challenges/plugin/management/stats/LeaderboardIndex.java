@@ -0,0 +1,95 @@
+package net.codingarea.challenges.plugin.management.stats;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps a {@link RankIndex} for every {@link Statistic}, so ranks and leaderboard pages
+ * can be looked up without sorting all stats.
+ *
+ * @see StatsManager
+ * @since 2.2.3
+ */
+final class LeaderboardIndex {
+
+	private static final Statistic[] STATISTICS = Statistic.values();
+
+	private static final class Entry {
+
+		private final double[] indexedValues = new double[STATISTICS.length];
+		private PlayerStats stats;
+
+		private Entry(@Nonnull PlayerStats stats) {
+			this.stats = stats;
+		}
+
+	}
+
+	private final RankIndex[] ranks = new RankIndex[STATISTICS.length];
+	private final Map<UUID, Entry> entries = new HashMap<>();
+
+	LeaderboardIndex() {
+		for (int i = 0; i < ranks.length; i++) {
+			ranks[i] = new RankIndex();
+		}
+	}
+
+	public synchronized void update(@Nonnull PlayerStats stats) {
+		UUID uuid = stats.getPlayerUUID();
+		Entry entry = entries.get(uuid);
+
+		if (entry == null) {
+			entry = new Entry(stats);
+			entries.put(uuid, entry);
+			for (Statistic statistic : STATISTICS) {
+				double value = stats.getStatisticValue(statistic);
+				entry.indexedValues[statistic.ordinal()] = value;
+				ranks[statistic.ordinal()].insert(uuid, value);
+			}
+			return;
+		}
+
+		entry.stats = stats;
+		for (Statistic statistic : STATISTICS) {
+			int index = statistic.ordinal();
+			double value = stats.getStatisticValue(statistic);
+			if (value == entry.indexedValues[index]) continue;
+
+			ranks[index].remove(uuid, entry.indexedValues[index]);
+			ranks[index].insert(uuid, value);
+			entry.indexedValues[index] = value;
+		}
+	}
+
+	/**
+	 * @return the place of the player starting at {@code 1}, players which are not indexed are placed last
+	 */
+	@Nonnegative
+	public synchronized int getPlace(@Nonnull UUID uuid, @Nonnull Statistic statistic) {
+		RankIndex rank = ranks[statistic.ordinal()];
+		Entry entry = entries.get(uuid);
+		if (entry == null) return rank.size() + 1;
+		return rank.rank(uuid, entry.indexedValues[statistic.ordinal()]) + 1;
+	}
+
+	@Nonnull
+	public synchronized List<PlayerStats> getPage(@Nonnull Statistic statistic, @Nonnegative int offset, @Nonnegative int limit) {
+		List<UUID> uuids = ranks[statistic.ordinal()].range(offset, limit);
+		List<PlayerStats> page = new ArrayList<>(uuids.size());
+		for (UUID uuid : uuids) {
+			page.add(entries.get(uuid).stats);
+		}
+		return page;
+	}
+
+	@Nonnegative
+	public synchronized int size() {
+		return entries.size();
+	}
+
+}
@@ -1,54 +1,77 @@
 package net.codingarea.challenges.plugin.management.stats;
 
-import net.anweisen.utilities.bukkit.utils.logging.Logger;
 import net.anweisen.utilities.common.config.Document;
 
 import javax.annotation.Nonnull;
-import java.util.EnumMap;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.DoubleAdder;
 
 /**
+ * The values are stored in adders indexed by {@link Statistic#ordinal()},
+ * so incrementing a statistic does not allocate and is safe to be called from any thread.
+ *
  * @author anweisen | https://github.com/anweisen
  * @since 2.0
  */
 public class PlayerStats {
 
-	private final Map<Statistic, Double> values = new EnumMap<>(Statistic.class);
+	private static final Statistic[] STATISTICS = Statistic.values();
+
+	private final DoubleAdder[] values = new DoubleAdder[STATISTICS.length];
+	private final AtomicBoolean dirty = new AtomicBoolean();
 	private final UUID uuid;
 	private final String name;
 
 	public PlayerStats(@Nonnull UUID uuid, @Nonnull String name, @Nonnull Document document) {
-		this.uuid = uuid;
-		this.name = name;
-		for (Statistic statistic : Statistic.values()) {
-			values.put(statistic, document.getDouble(statistic.name()));
+		this(uuid, name);
+		for (Statistic statistic : STATISTICS) {
+			values[statistic.ordinal()].add(document.getDouble(statistic.name()));
 		}
 	}
 
 	public PlayerStats(@Nonnull UUID uuid, @Nonnull String name) {
 		this.uuid = uuid;
 		this.name = name;
+		for (int i = 0; i < values.length; i++) {
+			values[i] = new DoubleAdder();
+		}
 	}
 
 	public void incrementStatistic(@Nonnull Statistic statistic, double amount) {
-		Logger.debug("Incrementing statistic {} by {} for {}", statistic, amount, name);
-		double value = values.getOrDefault(statistic, 0d);
-		values.put(statistic, value + amount);
+		values[statistic.ordinal()].add(amount);
+		dirty.set(true);
+	}
+
+	public void incrementStatistics(@Nonnull PlayerStats increments) {
+		for (Statistic statistic : STATISTICS) {
+			double amount = increments.getStatisticValue(statistic);
+			if (amount != 0) incrementStatistic(statistic, amount);
+		}
 	}
 
 	@Nonnull
 	public Document asDocument() {
 		Document document = Document.create();
-		for (Entry<Statistic, Double> entry : values.entrySet()) {
-			document.set(entry.getKey().name(), entry.getValue());
+		for (Statistic statistic : STATISTICS) {
+			document.set(statistic.name(), getStatisticValue(statistic));
 		}
 		return document;
 	}
 
+	/**
+	 * @return whether statistics changed since the last call of this method
+	 */
+	public boolean clearDirty() {
+		return dirty.getAndSet(false);
+	}
+
+	public void markDirty() {
+		dirty.set(true);
+	}
+
 	public double getStatisticValue(@Nonnull Statistic statistic) {
-		return values.getOrDefault(statistic, 0d);
+		return values[statistic.ordinal()].sum();
 	}
 
 	@Nonnull
@@ -63,7 +86,12 @@ public class PlayerStats {
 
 	@Override
 	public String toString() {
-		return "PlayerStats" + values;
+		StringBuilder builder = new StringBuilder("PlayerStats{");
+		for (Statistic statistic : STATISTICS) {
+			if (statistic.ordinal() > 0) builder.append(", ");
+			builder.append(statistic).append('=').append(getStatisticValue(statistic));
+		}
+		return builder.append('}').toString();
 	}
 
-}
\ No newline at end of file
+}
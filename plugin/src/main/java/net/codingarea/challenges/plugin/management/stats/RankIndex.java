@@ -0,0 +1,171 @@
+package net.codingarea.challenges.plugin.management.stats;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An order statistic tree (treap) of players ordered by their value descending.
+ * Insertions, removals, rank lookups and access by position take {@code O(log n)}.
+ *
+ * @see LeaderboardIndex
+ * @since 2.2.3
+ */
+final class RankIndex {
+
+	private static final class Node {
+
+		private final UUID uuid;
+		private final double value;
+		private final int priority = ThreadLocalRandom.current().nextInt();
+		private int size = 1;
+		private Node left, right;
+
+		private Node(@Nonnull UUID uuid, double value) {
+			this.uuid = uuid;
+			this.value = value;
+		}
+
+		private void update() {
+			size = 1 + size(left) + size(right);
+		}
+
+	}
+
+	private Node root;
+
+	public void insert(@Nonnull UUID uuid, double value) {
+		root = insert(root, new Node(uuid, value));
+	}
+
+	public void remove(@Nonnull UUID uuid, double value) {
+		root = remove(root, uuid, value);
+	}
+
+	/**
+	 * @return the amount of players ranked before the given player
+	 */
+	@Nonnegative
+	public int rank(@Nonnull UUID uuid, double value) {
+		int rank = 0;
+		Node node = root;
+		while (node != null) {
+			int compare = compare(uuid, value, node);
+			if (compare == 0) return rank + size(node.left);
+			if (compare < 0) {
+				node = node.left;
+			} else {
+				rank += size(node.left) + 1;
+				node = node.right;
+			}
+		}
+		return rank;
+	}
+
+	/**
+	 * @return the players ranked at the positions {@code [offset, offset + limit)} in order
+	 */
+	@Nonnull
+	public List<UUID> range(@Nonnegative int offset, @Nonnegative int limit) {
+		List<UUID> result = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+		collect(root, offset, offset + limit, 0, result);
+		return result;
+	}
+
+	@Nonnegative
+	public int size() {
+		return size(root);
+	}
+
+	private static void collect(Node node, int from, int to, int base, @Nonnull List<UUID> result) {
+		if (node == null || base >= to) return;
+		int index = base + size(node.left);
+		if (from < index) collect(node.left, from, to, base, result);
+		if (index >= from && index < to) result.add(node.uuid);
+		if (to > index + 1) collect(node.right, from, to, index + 1, result);
+	}
+
+	private static Node insert(Node node, @Nonnull Node inserted) {
+		if (node == null) return inserted;
+		if (inserted.priority > node.priority) {
+			Node[] split = split(node, inserted.uuid, inserted.value);
+			inserted.left = split[0];
+			inserted.right = split[1];
+			inserted.update();
+			return inserted;
+		}
+
+		if (compare(inserted.uuid, inserted.value, node) < 0) {
+			node.left = insert(node.left, inserted);
+		} else {
+			node.right = insert(node.right, inserted);
+		}
+		node.update();
+		return node;
+	}
+
+	private static Node remove(Node node, @Nonnull UUID uuid, double value) {
+		if (node == null) return null;
+		int compare = compare(uuid, value, node);
+		if (compare == 0) return merge(node.left, node.right);
+
+		if (compare < 0) {
+			node.left = remove(node.left, uuid, value);
+		} else {
+			node.right = remove(node.right, uuid, value);
+		}
+		node.update();
+		return node;
+	}
+
+	/**
+	 * @return the nodes ordered before the given key and the nodes ordered after it
+	 */
+	@Nonnull
+	private static Node[] split(Node node, @Nonnull UUID uuid, double value) {
+		if (node == null) return new Node[2];
+		if (compare(uuid, value, node) <= 0) {
+			Node[] split = split(node.left, uuid, value);
+			node.left = split[1];
+			node.update();
+			split[1] = node;
+			return split;
+		} else {
+			Node[] split = split(node.right, uuid, value);
+			node.right = split[0];
+			node.update();
+			split[0] = node;
+			return split;
+		}
+	}
+
+	private static Node merge(Node left, Node right) {
+		if (left == null) return right;
+		if (right == null) return left;
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			left.update();
+			return left;
+		} else {
+			right.left = merge(left, right.left);
+			right.update();
+			return right;
+		}
+	}
+
+	/**
+	 * Higher values are ranked first, equal values are ordered by their uuid
+	 */
+	private static int compare(@Nonnull UUID uuid, double value, @Nonnull Node node) {
+		int compare = Double.compare(node.value, value);
+		return compare != 0 ? compare : uuid.compareTo(node.uuid);
+	}
+
+	private static int size(Node node) {
+		return node == null ? 0 : node.size;
+	}
+
+}
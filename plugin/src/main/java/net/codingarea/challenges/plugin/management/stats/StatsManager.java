@@ -1,10 +1,15 @@
 package net.codingarea.challenges.plugin.management.stats;
 
 import net.anweisen.utilities.bukkit.utils.logging.Logger;
+import net.anweisen.utilities.common.config.Document;
+import net.anweisen.utilities.database.Database;
 import net.anweisen.utilities.database.exceptions.DatabaseException;
+import net.anweisen.utilities.database.internal.sql.abstraction.AbstractSQLDatabase;
 import net.codingarea.challenges.plugin.ChallengeAPI;
 import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.management.scheduler.policy.ChallengeStatusPolicy;
+import net.codingarea.challenges.plugin.management.scheduler.policy.PlayerCountPolicy;
+import net.codingarea.challenges.plugin.management.scheduler.policy.TimerPolicy;
 import net.codingarea.challenges.plugin.management.scheduler.task.ScheduledTask;
 import net.codingarea.challenges.plugin.spigot.listener.StatsListener;
 import org.bukkit.Bukkit;
@@ -12,15 +17,20 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent.Result;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -29,16 +39,25 @@ import java.util.stream.Collectors;
  */
 public final class StatsManager implements Listener {
 
-	private final boolean enabled, noStatsAfterCheating;
+	/** Ticks after which a failed load is retried while the player is still online */
+	private static final long LOAD_RETRY_DELAY = 30 * 20;
+
+	private final boolean enabled, noStatsAfterCheating, sharedDatabase;
 
 	private final Map<UUID, PlayerStats> cache = new ConcurrentHashMap<>();
 
-	private List<PlayerStats> cachedLeaderboard;
-	private long leaderboardCacheTimestamp;
+	/** Stats loaded while logging in which are moved into the cache as soon as the player joined */
+	private final Map<UUID, PlayerStats> preloaded = new ConcurrentHashMap<>();
+	/** Increments of players whose stats are not loaded yet, applied once the load completed */
+	private final Map<UUID, PlayerStats> pending = new ConcurrentHashMap<>();
+	private final Set<UUID> loading = ConcurrentHashMap.newKeySet();
+
+	private volatile LeaderboardIndex leaderboardIndex;
 
 	public StatsManager() {
 		enabled = Challenges.getInstance().getConfigDocument().getBoolean("save-player-stats");
 		noStatsAfterCheating = enabled && Challenges.getInstance().getConfigDocument().getBoolean("no-stats-after-cheating");
+		sharedDatabase = Challenges.getInstance().getConfigDocument().getDocument("database").getBoolean("shared");
 	}
 
 	@Nonnull
@@ -51,25 +70,164 @@ public final class StatsManager implements Listener {
 			StatsListener listener = new StatsListener();
 			ChallengeAPI.registerScheduler(this, listener);
 			Challenges.getInstance().registerListener(this, listener);
+
+			// Players may already be online when the plugin is reloaded
+			for (Player player : Bukkit.getOnlinePlayers()) {
+				loadAsync(player.getUniqueId(), player.getName());
+			}
 		}
 	}
 
 	@EventHandler(priority = EventPriority.MONITOR)
-	public void onLeave(@Nonnull PlayerQuitEvent event) {
-		PlayerStats cached = cache.remove(event.getPlayer().getUniqueId());
-		if (cached == null) return;
-		store(event.getPlayer().getUniqueId(), cached);
+	public void onPreLogin(@Nonnull AsyncPlayerPreLoginEvent event) {
+		if (event.getLoginResult() != Result.ALLOWED) return;
+		if (!hasDatabaseConnection()) return;
+
+		UUID uuid = event.getUniqueId();
+		try {
+			// This event is called asynchronously, so we can load the stats directly
+			preloaded.put(uuid, getStatsFromDatabase(uuid, event.getName()));
+			Logger.debug("Preloaded stats for uuid {}", uuid);
+		} catch (DatabaseException ex) {
+			Logger.error("Could not preload player stats for {}", uuid, ex);
+		}
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onLogin(@Nonnull PlayerLoginEvent event) {
+		if (event.getResult() == PlayerLoginEvent.Result.ALLOWED) return;
+		preloaded.remove(event.getPlayer().getUniqueId());
 	}
 
 	@EventHandler(priority = EventPriority.MONITOR)
 	public void onJoin(@Nonnull PlayerJoinEvent event) {
-		getStats(event.getPlayer()); // Cache stats
+		Player player = event.getPlayer();
+		PlayerStats stats = preloaded.remove(player.getUniqueId());
+		if (stats != null) {
+			completeLoad(player.getUniqueId(), stats);
+		} else {
+			loadAsync(player.getUniqueId(), player.getName());
+		}
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onLeave(@Nonnull PlayerQuitEvent event) {
+		UUID uuid = event.getPlayer().getUniqueId();
+		preloaded.remove(uuid);
+		if (!loading.contains(uuid)) pending.remove(uuid); // The load failed, the increments cannot be saved
+
+		PlayerStats cached = cache.remove(uuid);
+		if (cached == null || !cached.clearDirty()) return;
+		updateLeaderboardIndex(cached);
+		store(uuid, cached);
+	}
+
+	private void loadAsync(@Nonnull UUID uuid, @Nonnull String name) {
+		if (cache.containsKey(uuid) || !loading.add(uuid)) return;
+
+		Challenges.getInstance().runAsync(() -> {
+			boolean completing = false;
+			try {
+				PlayerStats stats = getStatsFromDatabase(uuid, name);
+				Bukkit.getScheduler().runTask(Challenges.getInstance(), () -> completeLoad(uuid, stats));
+				completing = true;
+			} catch (Exception ex) {
+				Logger.error("Could not load player stats for {}", uuid, ex);
+			} finally {
+				// Otherwise the player would never be loaded again and the increments would pile up
+				if (!completing) {
+					loading.remove(uuid);
+					retryLoad(uuid, name);
+				}
+			}
+		});
+	}
+
+	/**
+	 * The increments of the player are kept pending until a retry succeeds, they are dropped if the player leaves before
+	 */
+	private void retryLoad(@Nonnull UUID uuid, @Nonnull String name) {
+		if (!Challenges.getInstance().isEnabled()) return;
+		Bukkit.getScheduler().runTaskLater(Challenges.getInstance(), () -> {
+			if (Bukkit.getPlayer(uuid) != null) loadAsync(uuid, name);
+		}, LOAD_RETRY_DELAY);
+	}
+
+	/**
+	 * Has to be called on the main thread, so no increment can happen while the pending increments are applied
+	 */
+	private void completeLoad(@Nonnull UUID uuid, @Nonnull PlayerStats stats) {
+		loading.remove(uuid);
+		PlayerStats increments = pending.remove(uuid);
+		if (increments != null) stats.incrementStatistics(increments);
+
+		if (Bukkit.getPlayer(uuid) == null) {
+			// The player left before the stats were loaded
+			if (increments != null) {
+				updateLeaderboardIndex(stats);
+				Challenges.getInstance().runAsync(() -> store(uuid, stats));
+			}
+			return;
+		}
+
+		cache.put(uuid, stats);
+		updateLeaderboardIndex(stats);
+		Logger.debug("Loaded stats for uuid {}: {}", uuid, stats);
+	}
+
+	/**
+	 * Increments the statistic of the given player without ever accessing the database.
+	 * If the stats of the player are not loaded yet, the increment is applied once the load completed.
+	 */
+	public void incrementStatistic(@Nonnull Player player, @Nonnull Statistic statistic, double amount) {
+		UUID uuid = player.getUniqueId();
+		PlayerStats stats = cache.get(uuid);
+		if (stats == null) stats = pending.computeIfAbsent(uuid, key -> new PlayerStats(key, player.getName()));
+		stats.incrementStatistic(statistic, amount);
 	}
 
 	@ScheduledTask(ticks = 30 * 20, challengePolicy = ChallengeStatusPolicy.ALWAYS)
 	public void storeCached() {
+		Map<UUID, PlayerStats> changed = new LinkedHashMap<>();
 		for (Entry<UUID, PlayerStats> entry : cache.entrySet()) {
-			store(entry.getKey(), entry.getValue());
+			if (entry.getValue().clearDirty())
+				changed.put(entry.getKey(), entry.getValue());
+		}
+		if (changed.isEmpty()) return;
+		changed.values().forEach(this::updateLeaderboardIndex);
+
+		Database database = Challenges.getInstance().getDatabaseManager().getDatabase();
+		if (database instanceof AbstractSQLDatabase) {
+			storeBatched((AbstractSQLDatabase) database, changed);
+		} else {
+			changed.forEach(this::store);
+		}
+	}
+
+	/**
+	 * Updates the stats of all given players using a single batched statement.
+	 * Players which do not have a row yet are inserted separately.
+	 */
+	private void storeBatched(@Nonnull AbstractSQLDatabase database, @Nonnull Map<UUID, PlayerStats> changed) {
+		List<UUID> uuids = new ArrayList<>(changed.keySet());
+		try (PreparedStatement statement = database.prepare("UPDATE `challenges` SET `stats` = ? WHERE `uuid` = ?")) {
+			for (UUID uuid : uuids) {
+				statement.setString(1, changed.get(uuid).asDocument().toJson());
+				statement.setString(2, uuid.toString());
+				statement.addBatch();
+			}
+
+			int[] results = statement.executeBatch();
+			for (int i = 0; i < uuids.size(); i++) {
+				if (results[i] == 0) {
+					UUID uuid = uuids.get(i);
+					store(uuid, changed.get(uuid));
+				}
+			}
+			Logger.debug("Saved stats of {} players", uuids.size());
+		} catch (Exception ex) {
+			Logger.error("Could not save batched player stats", ex);
+			changed.values().forEach(PlayerStats::markDirty);
 		}
 	}
 
@@ -83,6 +241,7 @@ public final class StatsManager implements Listener {
 			Logger.debug("Saved stats for {}: {}", uuid, stats);
 		} catch (DatabaseException ex) {
 			Logger.error("Could not save player stats for {}", uuid, ex);
+			stats.markDirty();
 		}
 	}
 
@@ -91,18 +250,17 @@ public final class StatsManager implements Listener {
 		return getStats(player.getUniqueId(), player.getName());
 	}
 
+	/**
+	 * Returns the cached stats of the player or loads them from the database if they are not cached.
+	 * This may block, use {@link #incrementStatistic(Player, Statistic, double)} to increment statistics.
+	 */
 	@Nonnull
 	public PlayerStats getStats(@Nonnull UUID uuid, @Nonnull String name) {
 		PlayerStats cached = cache.get(uuid);
 		if (cached != null) return cached;
 
 		try {
-			PlayerStats stats = getStatsFromDatabase(uuid, name);
-			if (Bukkit.getPlayer(uuid) != null) {
-				cache.put(uuid, stats);
-				Logger.debug("Loaded stats for uuid {}: {}", uuid, stats);
-			}
-			return stats;
+			return getStatsFromDatabase(uuid, name);
 		} catch (DatabaseException ex) {
 			Logger.error("Could not get player stats for {}", uuid, ex);
 			return new PlayerStats(uuid, name);
@@ -120,35 +278,104 @@ public final class StatsManager implements Listener {
 				.orElse(new PlayerStats(uuid, name));
 	}
 
+	/**
+	 * The index is built once from the database and then updated with the stats of the online players.
+	 * When the database is shared with other servers, it is rebuilt by {@link #reseedLeaderboardIndex()}.
+	 */
 	@Nonnull
-	private List<PlayerStats> getAllStats() throws DatabaseException {
-		if (cachedLeaderboard != null && System.currentTimeMillis() - leaderboardCacheTimestamp < 3 * 60 * 1000) {
-			return cachedLeaderboard;
+	private LeaderboardIndex getLeaderboardIndex() throws DatabaseException {
+		LeaderboardIndex index = leaderboardIndex;
+		if (index != null) return index;
+
+		synchronized (this) {
+			if (leaderboardIndex != null) return leaderboardIndex;
+			return leaderboardIndex = loadLeaderboardIndex();
 		}
+	}
 
-		leaderboardCacheTimestamp = System.currentTimeMillis();
-		return cachedLeaderboard = getAllStats0();
+	/**
+	 * Other servers may change the stats of players which are not online on this server,
+	 * so the index is reloaded from the database like the leaderboard cache was before.
+	 */
+	@ScheduledTask(ticks = 3 * 60 * 20, timerPolicy = TimerPolicy.ALWAYS, challengePolicy = ChallengeStatusPolicy.ALWAYS, playerPolicy = PlayerCountPolicy.ALWAYS)
+	public void reseedLeaderboardIndex() {
+		if (!sharedDatabase || leaderboardIndex == null || !hasDatabaseConnection()) return;
+
+		try {
+			LeaderboardIndex created = loadLeaderboardIndex();
+			synchronized (this) {
+				leaderboardIndex = created;
+			}
+			Logger.debug("Reloaded leaderboard index with {} players", created.size());
+		} catch (DatabaseException ex) {
+			Logger.error("Could not reload leaderboard index", ex);
+		}
 	}
 
 	@Nonnull
-	private List<PlayerStats> getAllStats0() throws DatabaseException {
-		return Challenges.getInstance().getDatabaseManager().getDatabase()
-				.query("challenges")
-				.select("uuid", "stats", "name")
-				.execute().all()
-				.filter(result -> result.getUUID("uuid") != null)
-				.map(result -> new PlayerStats(result.getUUID("uuid"), result.getString("name"), result.getDocument("stats")))
-				.collect(Collectors.toList());
+	private LeaderboardIndex loadLeaderboardIndex() throws DatabaseException {
+		LeaderboardIndex created = new LeaderboardIndex();
+		Database database = Challenges.getInstance().getDatabaseManager().getDatabase();
+		if (database instanceof AbstractSQLDatabase) {
+			seedStreamed((AbstractSQLDatabase) database, created);
+		} else {
+			database.query("challenges")
+					.select("uuid", "stats", "name")
+					.execute().all()
+					.filter(result -> result.getUUID("uuid") != null)
+					.forEach(result -> created.update(new PlayerStats(result.getUUID("uuid"), result.getString("name"), result.getDocument("stats"))));
+		}
+
+		// The cached stats may not be saved yet
+		cache.values().forEach(created::update);
+		return created;
+	}
+
+	/**
+	 * Reads the stats row by row, so only the indexed stats are kept in memory and not all rows at once.
+	 */
+	private void seedStreamed(@Nonnull AbstractSQLDatabase database, @Nonnull LeaderboardIndex index) throws DatabaseException {
+		try (PreparedStatement statement = database.prepare("SELECT `uuid`, `stats`, `name` FROM `challenges`")) {
+			statement.setFetchSize(256);
+			try (ResultSet result = statement.executeQuery()) {
+				while (result.next()) {
+					UUID uuid = parseUUID(result.getString("uuid"));
+					if (uuid == null) continue;
+
+					String name = result.getString("name");
+					String stats = result.getString("stats");
+					index.update(stats == null
+							? new PlayerStats(uuid, String.valueOf(name))
+							: new PlayerStats(uuid, String.valueOf(name), Document.parseJson(stats)));
+				}
+			}
+		} catch (SQLException ex) {
+			throw new DatabaseException(ex);
+		}
+	}
+
+	@Nullable
+	private static UUID parseUUID(@Nullable String value) {
+		if (value == null) return null;
+		try {
+			return UUID.fromString(value);
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	private void updateLeaderboardIndex(@Nonnull PlayerStats stats) {
+		LeaderboardIndex index = leaderboardIndex;
+		if (index != null) index.update(stats);
 	}
 
 	@Nonnull
 	public LeaderboardInfo getLeaderboardInfo(@Nonnull UUID uuid) {
 		try {
-			List<PlayerStats> stats = getAllStats();
+			LeaderboardIndex index = getLeaderboardIndex();
 			LeaderboardInfo info = new LeaderboardInfo();
 			for (Statistic statistic : Statistic.values()) {
-				int place = determineIndex(new ArrayList<>(stats), PlayerStats::getPlayerUUID, uuid, getStatsComparator(statistic)) + 1;
-				info.setPlace(statistic, place);
+				info.setPlace(statistic, index.getPlace(uuid, statistic));
 			}
 
 			return info;
@@ -160,25 +387,26 @@ public final class StatsManager implements Listener {
 
 	@Nonnull
 	public List<PlayerStats> getLeaderboard(@Nonnull Statistic statistic) {
+		return getLeaderboard(statistic, 0, Integer.MAX_VALUE);
+	}
+
+	@Nonnull
+	public List<PlayerStats> getLeaderboard(@Nonnull Statistic statistic, int offset, int limit) {
 		try {
-			List<PlayerStats> stats = getAllStats();
-			stats.sort(getStatsComparator(statistic));
-			return stats;
+			return getLeaderboardIndex().getPage(statistic, offset, limit);
 		} catch (Exception ex) {
 			Logger.error("Could not get leaderboard in {}", statistic, ex);
 			return new ArrayList<>();
 		}
 	}
 
-	private <T, U> int determineIndex(@Nonnull List<T> list, @Nonnull Function<T, U> extractor, @Nonnull U target, @Nonnull Comparator<T> sort) {
-		list.sort(sort);
-		int index = 0;
-		for (T t : list) {
-			U u = extractor.apply(t);
-			if (target.equals(u)) return index;
-			index++;
+	public int getLeaderboardSize() {
+		try {
+			return getLeaderboardIndex().size();
+		} catch (Exception ex) {
+			Logger.error("Could not get leaderboard size", ex);
+			return 0;
 		}
-		return index;
 	}
 
 	public boolean isEnabled() {
@@ -1,11 +1,18 @@
 package net.codingarea.challenges.plugin.spigot.command;
 
 import net.codingarea.challenges.plugin.Challenges;
+import net.codingarea.challenges.plugin.challenges.implementation.challenge.LoopChallenge;
+import net.codingarea.challenges.plugin.challenges.type.abstraction.AbstractChallenge;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.content.Prefix;
 import net.codingarea.challenges.plugin.management.menu.MenuType;
+import net.codingarea.challenges.plugin.management.scheduler.FunctionProfile;
+import net.codingarea.challenges.plugin.management.scheduler.ScheduleManager;
+import net.codingarea.challenges.plugin.management.scheduler.ScheduledFunction;
+import net.codingarea.challenges.plugin.management.scheduler.TickBudget;
 import net.codingarea.challenges.plugin.utils.bukkit.command.Completer;
 import net.codingarea.challenges.plugin.utils.bukkit.command.PlayerCommand;
+import net.codingarea.challenges.plugin.utils.misc.LoopEngine;
 import net.codingarea.challenges.plugin.utils.misc.Utils;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -13,8 +20,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -29,6 +38,11 @@ public class ChallengesCommand implements PlayerCommand, Completer {
 			return;
 		}
 
+		if (args.length == 1 && args[0].equalsIgnoreCase("profiler") && player.hasPermission("challenges.profiler")) {
+			sendProfiler(player);
+			return;
+		}
+
 		if(args.length == 1) {
 			String menuName = args[0].toUpperCase();
 			try {
@@ -45,15 +59,62 @@ public class ChallengesCommand implements PlayerCommand, Completer {
 	}
 
 
+	private void sendProfiler(@Nonnull Player player) {
+		ScheduleManager scheduler = Challenges.getInstance().getScheduler();
+
+		TickBudget budget = scheduler.getTickBudget();
+		if (budget == null) {
+			Message.forName("command-profiler-disabled").send(player, Prefix.CHALLENGES);
+		} else {
+			Message.forName("command-profiler-budget").send(player, Prefix.CHALLENGES,
+					TimeUnit.NANOSECONDS.toMillis(budget.getBudgetNanos()), budget.getOverrunTicks(), budget.getDeferredFunctions());
+		}
+
+		LoopChallenge loopChallenge = AbstractChallenge.getFirstInstance(LoopChallenge.class);
+		if (loopChallenge != null && loopChallenge.isEnabled()) {
+			LoopEngine loops = loopChallenge.getLoops();
+			Message.forName("command-profiler-loops").send(player, Prefix.CHALLENGES, loops.size(), loops.getExecutions(), loops.getRejectedLoops(),
+					formatMillis(loops.getLastTickNanos()), formatMillis(loops.getTotalNanos()));
+		}
+
+		List<ScheduledFunction> functions = scheduler.getFunctions();
+		functions.removeIf(function -> function.getProfile().getCount() == 0);
+		functions.sort(Comparator.comparingLong((ScheduledFunction function) -> function.getProfile().getTotalNanos()).reversed());
+
+		long[] bounds = FunctionProfile.getBucketBounds();
+		for (ScheduledFunction function : functions.subList(0, Math.min(10, functions.size()))) {
+			FunctionProfile profile = function.getProfile();
+			long[] buckets = profile.getBuckets();
+
+			// Find the bucket containing the 99th percentile of executions
+			long threshold = (long) Math.ceil(profile.getCount() * 0.99), seen = 0;
+			int percentile = 0;
+			while (percentile < buckets.length - 1 && (seen += buckets[percentile]) < threshold) percentile++;
+			String p99 = percentile < bounds.length ? "≤" + bounds[percentile] + "µs" : ">" + bounds[bounds.length - 1] + "µs";
+
+			Message.forName("command-profiler-function").send(player, Prefix.CHALLENGES, function, profile.getCount(),
+					String.format("%.3f", profile.getAverageMillis()), formatMillis(profile.getMaxNanos()), p99);
+		}
+	}
+
+	@Nonnull
+	private static String formatMillis(long nanos) {
+		return String.format("%.3f", nanos / 1_000_000d);
+	}
+
 	@Nullable
 	@Override
 	public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull String[] args) {
-		return args.length != 1 ? null :
-				Utils.filterRecommendations(args[0],
-						Arrays.stream(MenuType.values())
-								.map(menuType -> menuType.name().toLowerCase())
-								.toArray(String[]::new)
-				);
+		if (args.length != 1) return null;
+
+		List<String> recommendations = new ArrayList<>();
+		for (MenuType menuType : MenuType.values()) {
+			recommendations.add(menuType.name().toLowerCase());
+		}
+		if (sender.hasPermission("challenges.profiler"))
+			recommendations.add("profiler");
+
+		return Utils.filterRecommendations(args[0], recommendations.toArray(new String[0]));
 	}
 
 }
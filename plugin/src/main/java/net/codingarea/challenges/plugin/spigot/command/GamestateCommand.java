@@ -32,6 +32,7 @@ public class GamestateCommand implements SenderCommand, Completer {
 		switch (args[0].toLowerCase()) {
 			case "reset":
 				gamestate.clear();
+				Challenges.getInstance().getChallengeManager().getGamestateStorage().clear();
 				Challenges.getInstance().getChallengeManager().resetGamestate();
 				Challenges.getInstance().getScoreboardManager().updateAll();
 				Message.forName("command-gamestate-reset").send(sender, Prefix.CHALLENGES);
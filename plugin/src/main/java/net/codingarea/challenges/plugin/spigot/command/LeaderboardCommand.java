@@ -90,18 +90,19 @@ public class LeaderboardCommand implements PlayerCommand {
 		AnimatedInventory inventory = new AnimatedInventory(InventoryTitleManager.getLeaderboardTitle(ChatColor.stripColor(statisticName), page + 1), 6 * 9, MenuPosition.HOLDER);
 		inventory.createAndAdd().fill(ItemBuilder.FILL_ITEM);
 
-		List<PlayerStats> leaderboard = Challenges.getInstance().getStatsManager().getLeaderboard(statistic);
-		int pages = leaderboard.size() / slots.length;
-		if (leaderboard.size() % slots.length > 0) pages++;
+		int size = Challenges.getInstance().getStatsManager().getLeaderboardSize();
+		int pages = size / slots.length;
+		if (size % slots.length > 0) pages++;
 		int offset = page * slots.length;
+		List<PlayerStats> leaderboard = Challenges.getInstance().getStatsManager().getLeaderboard(statistic, offset, slots.length);
 
 		InventoryUtils.setNavigationItemsToFrame(inventory.cloneLastAndAdd(), navigationSlots, true, page, pages);
 		SlottedMenuPosition position = new SlottedMenuPosition();
 		CloudSupportManager cloudSupport = Challenges.getInstance().getCloudSupportManager();
 
-		for (int i = offset; i < leaderboard.size() && i < offset + slots.length; i++) {
+		for (int i = offset; i < offset + leaderboard.size(); i++) {
 			int slot = slots[i - offset];
-			PlayerStats stats = leaderboard.get(i);
+			PlayerStats stats = leaderboard.get(i - offset);
 			String coloredName = cloudSupport.isNameSupport() && cloudSupport.hasNameFor(stats.getPlayerUUID()) ? cloudSupport.getColoredName(stats.getPlayerUUID()) : stats.getPlayerName();
 			ItemBuilder item = new SkullBuilder(stats.getPlayerUUID(), stats.getPlayerName()).setName(Message.forName("stats-leaderboard-display")
 					.asArray(coloredName, statistic.formatChat(stats.getStatisticValue(statistic)), statisticName, i + 1));
@@ -1,13 +1,13 @@
 package net.codingarea.challenges.plugin.spigot.command;
 
-import net.anweisen.utilities.bukkit.utils.item.ItemUtils;
 import net.anweisen.utilities.common.misc.StringUtils;
 import net.codingarea.challenges.plugin.Challenges;
 import net.codingarea.challenges.plugin.content.Message;
 import net.codingarea.challenges.plugin.content.Prefix;
-import net.codingarea.challenges.plugin.management.blocks.BlockDropManager.RegisteredDrops;
 import net.codingarea.challenges.plugin.utils.bukkit.command.Completer;
 import net.codingarea.challenges.plugin.utils.bukkit.command.SenderCommand;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
+import net.codingarea.challenges.plugin.utils.misc.PrefixTrie;
 import net.codingarea.challenges.plugin.utils.misc.Utils;
 import org.bukkit.Material;
 import org.bukkit.command.CommandSender;
@@ -15,10 +15,8 @@ import org.bukkit.command.CommandSender;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +25,10 @@ import java.util.stream.Collectors;
  */
 public class SearchCommand implements SenderCommand, Completer {
 
+	private static final PrefixTrie completions = new PrefixTrie(Catalog.OBTAINABLE_ITEMS.asList().stream()
+			.map(material -> material.name().toLowerCase())
+			.collect(Collectors.toList()));
+
 	@Override
 	public void onCommand(@Nonnull CommandSender sender, @Nonnull String[] args) throws Exception {
 
@@ -47,14 +49,7 @@ public class SearchCommand implements SenderCommand, Completer {
 			return;
 		}
 
-		Map<Material, RegisteredDrops> allDrops = Challenges.getInstance().getBlockDropManager().getRegisteredDrops();
-
-		List<Material> blocks = new ArrayList<>(1);
-		for (Entry<Material, RegisteredDrops> entry : allDrops.entrySet()) {
-			List<Material> drops = entry.getValue().getFirst().orElse(new ArrayList<>());
-			if (drops.contains(material))
-				blocks.add(entry.getKey());
-		}
+		Set<Material> blocks = Challenges.getInstance().getBlockDropManager().getBlocksDropping(material);
 
 		if (blocks.isEmpty()) {
 			Message.forName("command-search-nothing").send(sender, Prefix.CHALLENGES, material);
@@ -66,13 +61,7 @@ public class SearchCommand implements SenderCommand, Completer {
 	@Nullable
 	@Override
 	public List<String> onTabComplete(@Nonnull CommandSender sender, @Nonnull String[] args) {
-		return args.length != 1 ? null :
-				Arrays.stream(Material.values())
-						.filter(ItemUtils::isObtainableInSurvival)
-						.filter(Material::isItem)
-						.map(material -> material.name().toLowerCase())
-						.collect(Collectors.toList()
-						);
+		return args.length != 1 ? null : new ArrayList<>(completions.getWordsStartingWith(args[0].toLowerCase()));
 	}
 
 }
@@ -6,7 +6,6 @@ import net.codingarea.challenges.plugin.challenges.type.abstraction.AbstractChal
 import net.codingarea.challenges.plugin.management.scheduler.policy.FreshnessPolicy;
 import net.codingarea.challenges.plugin.management.scheduler.task.TimerTask;
 import net.codingarea.challenges.plugin.management.scheduler.timer.TimerStatus;
-import net.codingarea.challenges.plugin.management.stats.PlayerStats;
 import net.codingarea.challenges.plugin.management.stats.Statistic;
 import net.codingarea.challenges.plugin.spigot.events.PlayerJumpEvent;
 import net.codingarea.challenges.plugin.utils.misc.BlockUtils;
@@ -47,7 +46,7 @@ public class StatsListener implements Listener {
 		if (!Challenges.getInstance().getStatsManager().isEnabled()) return;
 
 		for (Player player : Bukkit.getOnlinePlayers()) {
-			Challenges.getInstance().getStatsManager().getStats(player).incrementStatistic(Statistic.CHALLENGES_PLAYED, 1);
+			incrementStatistic(player, Statistic.CHALLENGES_PLAYED, 1);
 		}
 	}
 
@@ -140,8 +139,7 @@ public class StatsListener implements Listener {
 	}
 
 	private void incrementStatistic(@Nonnull Player player, @Nonnull Statistic statistic, double amount) {
-		PlayerStats stats = Challenges.getInstance().getStatsManager().getStats(player);
-		stats.incrementStatistic(statistic, amount);
+		Challenges.getInstance().getStatsManager().incrementStatistic(player, statistic, amount);
 	}
 
 	private boolean countNoStats() {
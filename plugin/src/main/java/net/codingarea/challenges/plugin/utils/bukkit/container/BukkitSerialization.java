@@ -96,6 +96,33 @@ public class BukkitSerialization {
 		}
 	}
 
+	/**
+	 * Serializes the contents of an inventory in the format of {@link #toBase64(Inventory)},
+	 * so it can be read using {@link #fromBase64(Inventory, String)}.
+	 * Does not access the inventory, so it can be used async on a copy of its contents.
+	 *
+	 * @param contents the contents of the inventory
+	 * @return Base64 string of the provided contents
+	 * @throws IllegalStateException
+	 */
+	public static String contentsToBase64(ItemStack[] contents) throws IllegalStateException {
+		try {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			BukkitObjectOutputStream dataOutput = new BukkitObjectOutputStream(outputStream);
+
+			// Save every element in the list
+			for (ItemStack item : contents) {
+				dataOutput.writeObject(item);
+			}
+
+			// Serialize that array
+			dataOutput.close();
+			return Base64Coder.encodeLines(outputStream.toByteArray());
+		} catch (Exception e) {
+			throw new IllegalStateException("Unable to save item stacks.", e);
+		}
+	}
+
 	/**
 	 * A method to get an {@link Inventory} from an encoded, Base64, string.
 	 * <p>
@@ -0,0 +1,123 @@
+package net.codingarea.challenges.plugin.utils.bukkit.misc;
+
+import net.anweisen.utilities.bukkit.utils.item.ItemUtils;
+import net.anweisen.utilities.bukkit.utils.misc.BukkitReflectionUtils;
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Materials and entity types grouped by commonly used properties.
+ * The groups are computed once for the running server version, so their members don't have to be
+ * filtered from {@link Material#values()} or {@link EntityType#values()} again.
+ *
+ * @since 2.2.3
+ */
+public final class Catalog {
+
+	/**
+	 * An immutable group of enum constants in their declaration order
+	 */
+	public static final class Group<E extends Enum<E>> {
+
+		private final E[] values;
+		private final List<E> list;
+		private final Set<E> set;
+		private final BitSet ordinals = new BitSet();
+
+		private Group(@Nonnull Class<E> classOfEnum, @Nonnull Predicate<? super E> filter) {
+			EnumSet<E> members = EnumSet.noneOf(classOfEnum);
+			for (E value : classOfEnum.getEnumConstants()) {
+				if (!filter.test(value)) continue;
+				members.add(value);
+				ordinals.set(value.ordinal());
+			}
+
+			values = members.toArray(Arrays.copyOf(classOfEnum.getEnumConstants(), 0));
+			list = Collections.unmodifiableList(Arrays.asList(values));
+			set = Collections.unmodifiableSet(members);
+		}
+
+		public boolean contains(@Nonnull E value) {
+			return ordinals.get(value.ordinal());
+		}
+
+		/**
+		 * @return an unmodifiable list view of the members, without copying them
+		 */
+		@Nonnull
+		public List<E> asList() {
+			return list;
+		}
+
+		/**
+		 * @return an unmodifiable set view of the members, without copying them
+		 */
+		@Nonnull
+		public Set<E> asSet() {
+			return set;
+		}
+
+		/**
+		 * @return a new array of the members, which can be modified
+		 */
+		@Nonnull
+		public E[] toArray() {
+			return values.clone();
+		}
+
+		/**
+		 * @return a new list of the members, which can be modified
+		 */
+		@Nonnull
+		public List<E> toList() {
+			return new ArrayList<>(list);
+		}
+
+		@Nonnegative
+		public int size() {
+			return values.length;
+		}
+
+	}
+
+	/** Materials which are items */
+	public static final Group<Material> ITEMS = new Group<>(Material.class, Material::isItem);
+
+	/** Materials which are items, except air */
+	public static final Group<Material> NON_AIR_ITEMS = new Group<>(Material.class, material -> material.isItem() && !BukkitReflectionUtils.isAir(material));
+
+	/** Materials which are items and can be obtained in survival */
+	public static final Group<Material> OBTAINABLE_ITEMS = new Group<>(Material.class, material -> material.isItem() && ItemUtils.isObtainableInSurvival(material));
+
+	/** Materials which are blocks */
+	public static final Group<Material> BLOCKS = new Group<>(Material.class, Material::isBlock);
+
+	/** Materials which are blocks and can be obtained in survival */
+	public static final Group<Material> OBTAINABLE_BLOCKS = new Group<>(Material.class, material -> material.isBlock() && ItemUtils.isObtainableInSurvival(material));
+
+	/** Materials which are blocks and can be obtained in survival, except air */
+	public static final Group<Material> PLACEABLE_BLOCKS = new Group<>(Material.class, material -> material.isBlock() && ItemUtils.isObtainableInSurvival(material) && !BukkitReflectionUtils.isAir(material));
+
+	/** Materials which are blocks and items, except air */
+	public static final Group<Material> BLOCK_ITEMS = new Group<>(Material.class, material -> material.isBlock() && material.isItem() && !BukkitReflectionUtils.isAir(material));
+
+	/** Materials which can be eaten */
+	public static final Group<Material> EDIBLE_ITEMS = new Group<>(Material.class, Material::isEdible);
+
+	/** Entity types which are alive */
+	public static final Group<EntityType> LIVING_ENTITIES = new Group<>(EntityType.class, EntityType::isAlive);
+
+	/** Entity types which can be spawned */
+	public static final Group<EntityType> SPAWNABLE_ENTITIES = new Group<>(EntityType.class, EntityType::isSpawnable);
+
+	/** Entity types which can be spawned and are alive */
+	public static final Group<EntityType> SPAWNABLE_LIVING_ENTITIES = new Group<>(EntityType.class, type -> type.isSpawnable() && type.isAlive());
+
+	private Catalog() {}
+
+}
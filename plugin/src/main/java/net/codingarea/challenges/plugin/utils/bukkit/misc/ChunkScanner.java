@@ -0,0 +1,149 @@
+package net.codingarea.challenges.plugin.utils.bukkit.misc;
+
+import net.anweisen.utilities.bukkit.utils.logging.Logger;
+import net.anweisen.utilities.bukkit.utils.misc.BukkitReflectionUtils;
+import net.codingarea.challenges.plugin.Challenges;
+import net.codingarea.challenges.plugin.management.blocks.BlockEditManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Scans chunks asynchronously using {@link ChunkSnapshot}s, so the live world is only accessed on the primary thread.
+ * The snapshot is taken on the primary thread, the scan runs async and collects the positions to change,
+ * which are then passed back to the primary thread.
+ *
+ * @since 2.2.3
+ */
+public final class ChunkScanner {
+
+	/**
+	 * Block positions inside a single chunk, packed into ints
+	 */
+	public static final class ChunkPositions {
+
+		private final World world;
+		private final int chunkX, chunkZ;
+		private final int minHeight, maxHeight;
+		private int[] positions = new int[64];
+		private int[] values;
+		private int size;
+
+		private ChunkPositions(@Nonnull World world, int chunkX, int chunkZ, int minHeight, int maxHeight) {
+			this.world = world;
+			this.chunkX = chunkX;
+			this.chunkZ = chunkZ;
+			this.minHeight = minHeight;
+			this.maxHeight = maxHeight;
+		}
+
+		/**
+		 * @param x the x coordinate relative to the chunk, {@code 0-15}
+		 * @param y the absolute y coordinate
+		 * @param z the z coordinate relative to the chunk, {@code 0-15}
+		 */
+		public void add(int x, int y, int z) {
+			if (size == positions.length) positions = Arrays.copyOf(positions, size * 2);
+			positions[size++] = y << 8 | (z & 0xF) << 4 | (x & 0xF);
+		}
+
+		/**
+		 * Adds the position together with a value, which can be read using {@link #forEach(PositionConsumer)}
+		 */
+		public void add(int x, int y, int z, int value) {
+			add(x, y, z);
+			if (values == null) values = new int[positions.length];
+			else if (values.length < positions.length) values = Arrays.copyOf(values, positions.length);
+			values[size - 1] = value;
+		}
+
+		/**
+		 * @param action called with the absolute coordinates and the value of each position
+		 */
+		public void forEach(@Nonnull PositionConsumer action) {
+			for (int i = 0; i < size; i++) {
+				int position = positions[i];
+				action.accept(chunkX << 4 | (position & 0xF), position >> 8, chunkZ << 4 | (position >> 4 & 0xF), values == null ? 0 : values[i]);
+			}
+		}
+
+		@Nonnull
+		public World getWorld() {
+			return world;
+		}
+
+		/**
+		 * Queues the given block data at all positions in the {@link BlockEditManager}.
+		 * Has to be called on the primary thread.
+		 */
+		public void apply(@Nonnull BlockData data, boolean applyPhysics) {
+			BlockEditManager edits = Challenges.getInstance().getBlockEditManager();
+			for (int i = 0; i < size; i++) {
+				int position = positions[i];
+				edits.setBlockData(world, chunkX << 4 | (position & 0xF), position >> 8, chunkZ << 4 | (position >> 4 & 0xF), data, applyPhysics);
+			}
+		}
+
+		public int getMinHeight() {
+			return minHeight;
+		}
+
+		public int getMaxHeight() {
+			return maxHeight;
+		}
+
+		@Nonnegative
+		public int size() {
+			return size;
+		}
+
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+	}
+
+	public interface PositionConsumer {
+
+		void accept(int x, int y, int z, int value);
+
+	}
+
+	private ChunkScanner() {}
+
+	/**
+	 * @param scanner the scan executed async, reading the snapshot and adding the positions to change
+	 * @param callback called on the primary thread with the collected positions
+	 */
+	public static void scan(@Nonnull Chunk chunk, @Nonnull BiConsumer<ChunkSnapshot, ChunkPositions> scanner, @Nonnull Consumer<ChunkPositions> callback) {
+		if (!Bukkit.isPrimaryThread()) {
+			Bukkit.getScheduler().runTask(Challenges.getInstance(), () -> scan(chunk, scanner, callback));
+			return;
+		}
+		if (!chunk.isLoaded()) return;
+
+		World world = chunk.getWorld();
+		ChunkSnapshot snapshot = chunk.getChunkSnapshot(false, false, false);
+		ChunkPositions positions = new ChunkPositions(world, chunk.getX(), chunk.getZ(), BukkitReflectionUtils.getMinHeight(world), world.getMaxHeight());
+
+		Challenges.getInstance().runAsync(() -> {
+			try {
+				scanner.accept(snapshot, positions);
+			} catch (Exception ex) {
+				Logger.error("Could not scan chunk {}, {} in {}", positions.chunkX, positions.chunkZ, world.getName(), ex);
+				return;
+			}
+			if (positions.isEmpty()) return;
+			Bukkit.getScheduler().runTask(Challenges.getInstance(), () -> callback.accept(positions));
+		});
+	}
+
+}
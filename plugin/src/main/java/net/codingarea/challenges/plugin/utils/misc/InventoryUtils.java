@@ -6,6 +6,7 @@ import net.anweisen.utilities.bukkit.utils.menu.MenuClickInfo;
 import net.anweisen.utilities.common.collection.IRandom;
 import net.codingarea.challenges.plugin.ChallengeAPI;
 import net.codingarea.challenges.plugin.management.menu.generator.MenuGenerator;
+import net.codingarea.challenges.plugin.utils.bukkit.misc.Catalog;
 import net.codingarea.challenges.plugin.utils.item.DefaultItem;
 import net.codingarea.challenges.plugin.utils.item.ItemBuilder;
 import org.bukkit.Location;
@@ -19,7 +20,6 @@ import org.bukkit.inventory.ItemStack;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -35,8 +35,7 @@ public final class InventoryUtils {
 
 	static {
 		random = IRandom.create();
-		items = new ArrayList<>(Arrays.asList(Material.values()));
-		items.removeIf(material -> !material.isItem());
+		items = Catalog.ITEMS.asList();
 	}
 
 	private InventoryUtils() {
@@ -0,0 +1,156 @@
+package net.codingarea.challenges.plugin.utils.misc;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive longs to primitive ints using open addressing,
+ * so keys like packed chunk coordinates are stored without boxing.
+ *
+ * @since 2.2.3
+ */
+public final class LongIntHashMap {
+
+	private static final long EMPTY = Long.MIN_VALUE;
+
+	private long[] keys;
+	private int[] values;
+	private boolean containsEmptyKey;
+	private int emptyKeyValue;
+	private int size;
+
+	public LongIntHashMap() {
+		this(16);
+	}
+
+	public LongIntHashMap(@Nonnegative int expectedSize) {
+		allocate(Math.max(4, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1));
+	}
+
+	public int get(long key, int defaultValue) {
+		if (key == EMPTY) return containsEmptyKey ? emptyKeyValue : defaultValue;
+		int mask = keys.length - 1;
+		for (int index = hash(key) & mask; ; index = (index + 1) & mask) {
+			long current = keys[index];
+			if (current == EMPTY) return defaultValue;
+			if (current == key) return values[index];
+		}
+	}
+
+	public boolean containsKey(long key) {
+		if (key == EMPTY) return containsEmptyKey;
+		int mask = keys.length - 1;
+		for (int index = hash(key) & mask; ; index = (index + 1) & mask) {
+			long current = keys[index];
+			if (current == EMPTY) return false;
+			if (current == key) return true;
+		}
+	}
+
+	public void put(long key, int value) {
+		if (key == EMPTY) {
+			if (!containsEmptyKey) size++;
+			containsEmptyKey = true;
+			emptyKeyValue = value;
+			return;
+		}
+		int mask = keys.length - 1;
+		int index = hash(key) & mask;
+		while (keys[index] != EMPTY) {
+			if (keys[index] == key) {
+				values[index] = value;
+				return;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		if (++size * 2 > keys.length) rehash(keys.length * 2);
+	}
+
+	public void remove(long key) {
+		if (key == EMPTY) {
+			if (containsEmptyKey) size--;
+			containsEmptyKey = false;
+			return;
+		}
+		int mask = keys.length - 1;
+		int index = hash(key) & mask;
+		while (keys[index] != key) {
+			if (keys[index] == EMPTY) return;
+			index = (index + 1) & mask;
+		}
+
+		// Shift following entries of the same probe sequence back, so lookups don't stop at the gap
+		int gap = index;
+		for (index = (gap + 1) & mask; keys[index] != EMPTY; index = (index + 1) & mask) {
+			int ideal = hash(keys[index]) & mask;
+			if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+				keys[gap] = keys[index];
+				values[gap] = values[index];
+				gap = index;
+			}
+		}
+		keys[gap] = EMPTY;
+		size--;
+	}
+
+	/**
+	 * @param action called with every key and its value
+	 */
+	public void forEach(@Nonnull EntryConsumer action) {
+		if (containsEmptyKey) action.accept(EMPTY, emptyKeyValue);
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != EMPTY) action.accept(keys[i], values[i]);
+		}
+	}
+
+	public interface EntryConsumer {
+
+		void accept(long key, int value);
+
+	}
+
+	public void clear() {
+		Arrays.fill(keys, EMPTY);
+		containsEmptyKey = false;
+		size = 0;
+	}
+
+	@Nonnegative
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(capacity);
+		int mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			long key = oldKeys[i];
+			if (key == EMPTY) continue;
+			int index = hash(key) & mask;
+			while (keys[index] != EMPTY) index = (index + 1) & mask;
+			keys[index] = key;
+			values[index] = oldValues[i];
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new int[capacity];
+		Arrays.fill(keys, EMPTY);
+	}
+
+	private static int hash(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+}
@@ -0,0 +1,197 @@
+package net.codingarea.challenges.plugin.utils.misc;
+
+import net.anweisen.utilities.bukkit.utils.logging.Logger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Executes repeating loops every {@code period} ticks.
+ * Loops are kept in one bucket per tick of the period, so a tick only touches the loops which are due.
+ * Loops with equal {@link Loop#getKey() keys} are merged into the running loop.
+ * The amount of loops is limited globally and per owner, the amount of executions per tick is limited by a budget;
+ * loops exceeding the budget are delayed to the next tick.
+ *
+ * @since 2.2.3
+ */
+public final class LoopEngine {
+
+	public interface Loop {
+
+		/**
+		 * @return whether the loop should be executed again
+		 */
+		boolean execute();
+
+		/**
+		 * @return the key identifying equivalent loops, which are merged instead of being added separately
+		 */
+		@Nonnull
+		default Object getKey() {
+			return this;
+		}
+
+		/**
+		 * @return the player whose loops are limited, or {@code null} if the loop is only limited globally
+		 */
+		@Nullable
+		default UUID getOwner() {
+			return null;
+		}
+
+		/**
+		 * Called when an equivalent loop is added while this loop is running
+		 */
+		default void merge(@Nonnull Loop other) {
+		}
+
+	}
+
+	private final int period;
+	private final Deque<Loop>[] buckets;
+	private final Map<Object, Loop> loops = new HashMap<>();
+	private final Map<UUID, Integer> loopsPerOwner = new HashMap<>();
+	private final int maxLoops, maxLoopsPerOwner, executionsPerTick;
+
+	private Deque<Loop> spareBucket = new ArrayDeque<>();
+	private int currentTick;
+	private boolean executing;
+
+	private long executions, rejectedLoops;
+	private long lastTickNanos, totalNanos;
+
+	@SuppressWarnings("unchecked")
+	public LoopEngine(@Nonnegative int period, int maxLoops, int maxLoopsPerOwner, int executionsPerTick) {
+		this.period = Math.max(1, period);
+		this.maxLoops = maxLoops;
+		this.maxLoopsPerOwner = maxLoopsPerOwner;
+		this.executionsPerTick = Math.max(1, executionsPerTick);
+		this.buckets = new Deque[this.period];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new ArrayDeque<>();
+		}
+	}
+
+	/**
+	 * Adds the loop, it will first be executed in {@code period} ticks
+	 *
+	 * @return {@code false} if a limit was reached and the loop was not added
+	 */
+	public boolean add(@Nonnull Loop loop) {
+		Object key = loop.getKey();
+		Loop existing = loops.get(key);
+		if (existing != null) {
+			existing.merge(loop);
+			return true;
+		}
+
+		UUID owner = loop.getOwner();
+		if (loops.size() >= maxLoops || (owner != null && loopsPerOwner.getOrDefault(owner, 0) >= maxLoopsPerOwner)) {
+			rejectedLoops++;
+			return false;
+		}
+
+		loops.put(key, loop);
+		if (owner != null) loopsPerOwner.merge(owner, 1, Integer::sum);
+		buckets[currentTick % period].add(loop);
+		return true;
+	}
+
+	/**
+	 * Executes the loops which are due in this tick, has to be called every tick
+	 */
+	public void tick() {
+		int index = ++currentTick % period;
+		Deque<Loop> due = buckets[index];
+		if (due.isEmpty()) {
+			lastTickNanos = 0;
+			return;
+		}
+
+		// Loops executed this tick are due again in the same bucket
+		buckets[index] = spareBucket;
+		Deque<Loop> next = buckets[(index + 1) % period];
+
+		long start = System.nanoTime();
+		int budget = executionsPerTick;
+		executing = true;
+		try {
+			for (Loop loop; (loop = due.poll()) != null; ) {
+				if (loops.get(loop.getKey()) != loop) continue; // cleared while executing
+				if (budget <= 0) {
+					next.add(loop);
+					continue;
+				}
+
+				budget--;
+				executions++;
+				boolean repeat;
+				try {
+					repeat = loop.execute();
+				} catch (Exception ex) {
+					Logger.error("Could not execute loop {}", loop.getClass().getSimpleName(), ex);
+					repeat = false;
+				}
+
+				if (loops.get(loop.getKey()) != loop) continue;
+				if (repeat) buckets[index].add(loop);
+				else remove(loop);
+			}
+		} finally {
+			executing = false;
+			spareBucket = due;
+		}
+
+		lastTickNanos = System.nanoTime() - start;
+		totalNanos += lastTickNanos;
+	}
+
+	private void remove(@Nonnull Loop loop) {
+		loops.remove(loop.getKey());
+		UUID owner = loop.getOwner();
+		if (owner != null) loopsPerOwner.computeIfPresent(owner, (key, count) -> count > 1 ? count - 1 : null);
+	}
+
+	public void clear() {
+		loops.clear();
+		loopsPerOwner.clear();
+		for (Deque<Loop> bucket : buckets) {
+			bucket.clear();
+		}
+	}
+
+	/**
+	 * @return whether loops are currently being executed, used to ignore events caused by loops
+	 */
+	public boolean isExecuting() {
+		return executing;
+	}
+
+	@Nonnegative
+	public int size() {
+		return loops.size();
+	}
+
+	public boolean isEmpty() {
+		return loops.isEmpty();
+	}
+
+	public long getExecutions() {
+		return executions;
+	}
+
+	public long getRejectedLoops() {
+		return rejectedLoops;
+	}
+
+	public long getLastTickNanos() {
+		return lastTickNanos;
+	}
+
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+}
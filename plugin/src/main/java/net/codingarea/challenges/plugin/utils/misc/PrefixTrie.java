@@ -0,0 +1,73 @@
+package net.codingarea.challenges.plugin.utils.misc;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.*;
+
+/**
+ * An immutable trie over a fixed set of words.
+ * The words are stored sorted, so the words starting with a prefix are a contiguous range
+ * which every node stores, looking up a prefix only walks its characters.
+ *
+ * @since 2.2.3
+ */
+public final class PrefixTrie {
+
+	private static final class Node {
+
+		private final Map<Character, Node> children = new HashMap<>(4);
+		private int from, to;
+
+	}
+
+	private final List<String> words;
+	private final Node root = new Node();
+
+	public PrefixTrie(@Nonnull Collection<String> words) {
+		String[] sorted = words.stream().distinct().sorted().toArray(String[]::new);
+		this.words = Collections.unmodifiableList(Arrays.asList(sorted));
+
+		root.to = sorted.length;
+		for (int i = 0; i < sorted.length; i++) {
+			Node node = root;
+			String word = sorted[i];
+			for (int index = 0; index < word.length(); index++) {
+				Node child = node.children.get(word.charAt(index));
+				if (child == null) {
+					child = new Node();
+					child.from = i;
+					node.children.put(word.charAt(index), child);
+				}
+				child.to = i + 1;
+				node = child;
+			}
+		}
+	}
+
+	/**
+	 * @return an unmodifiable view of the sorted words starting with the given prefix
+	 */
+	@Nonnull
+	public List<String> getWordsStartingWith(@Nonnull String prefix) {
+		Node node = root;
+		for (int index = 0; index < prefix.length() && node != null; index++) {
+			node = node.children.get(prefix.charAt(index));
+		}
+		if (node == null) return Collections.emptyList();
+		return words.subList(node.from, node.to);
+	}
+
+	/**
+	 * @return an unmodifiable view of all sorted words
+	 */
+	@Nonnull
+	public List<String> getWords() {
+		return words;
+	}
+
+	@Nonnegative
+	public int size() {
+		return words.size();
+	}
+
+}
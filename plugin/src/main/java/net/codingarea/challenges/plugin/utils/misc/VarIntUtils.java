@@ -0,0 +1,56 @@
+package net.codingarea.challenges.plugin.utils.misc;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Writes and reads variable length integers, 7 bits per byte with the highest bit marking that another byte follows.
+ * Used to pack large gamestates, which are then stored base64 encoded.
+ *
+ * @since 2.2.3
+ */
+public final class VarIntUtils {
+
+	private VarIntUtils() {
+	}
+
+	public static void writeVarInt(@Nonnull ByteArrayOutputStream output, int value) {
+		while ((value & ~0x7F) != 0) {
+			output.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		output.write(value);
+	}
+
+	public static int readVarInt(@Nonnull ByteArrayInputStream input) {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int read = input.read();
+			if (read < 0) break;
+			value |= (read & 0x7F) << shift;
+			if ((read & 0x80) == 0) break;
+		}
+		return value;
+	}
+
+	public static void writeVarLong(@Nonnull ByteArrayOutputStream output, long value) {
+		while ((value & ~0x7FL) != 0) {
+			output.write((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		output.write((int) value);
+	}
+
+	public static long readVarLong(@Nonnull ByteArrayInputStream input) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int read = input.read();
+			if (read < 0) break;
+			value |= (long) (read & 0x7F) << shift;
+			if ((read & 0x80) == 0) break;
+		}
+		return value;
+	}
+
+}